@@ -9,15 +9,24 @@ import Fridge_Chef.team.user.domain.UserId;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.ArrayList;
 import java.util.List;
 
 import static lombok.AccessLevel.PROTECTED;
 
+/**
+ * hit/count/별점 컬럼은 BoardDslRepository 의 상대 update(col = col + n) 로 바뀐다.
+ * 바뀐 컬럼만 update 해서 제목/본문 수정 flush 가 읽어둔 카운터 값을 덮어쓰지 않게 한다.
+ */
 @Entity
 @Getter
-@Table
+@DynamicUpdate
+@Table(indexes = {
+        @Index(name = "idx_board_user", columnList = "user_id")
+})
 @NoArgsConstructor(access = PROTECTED)
 public class Board extends BaseEntity {
     @Id
@@ -44,7 +53,14 @@ public class Board extends BaseEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     private Image mainImage;
     private String pathMainImage;
+    /**
+     * 별점 평균, star_sum / star_count 로 댓글 등록/수정/삭제시 함께 갱신
+     */
     private double totalStar;
+    @ColumnDefault("0")
+    private double starSum;
+    @ColumnDefault("0")
+    private int starCount;
     private int hit;
     private int count;
 
@@ -65,7 +81,7 @@ public class Board extends BaseEntity {
         this.boardIssues = new ArrayList<>();
 
         if(mainImage != null){
-            pathMainImage = mainImage.getLink();
+            pathMainImage = mainImage.getCardLink();
         }
     }
 
@@ -100,6 +116,7 @@ public class Board extends BaseEntity {
 
     public void updateMainImage(Image mainImage) {
         this.mainImage = mainImage;
+        this.pathMainImage = mainImage == null ? null : mainImage.getCardLink();
     }
 
     public String getMainImageLink() {
@@ -109,6 +126,16 @@ public class Board extends BaseEntity {
         return "";
     }
 
+    /**
+     * 목록용 카드 크기 대표 이미지
+     */
+    public String getMainImageCardLink() {
+        if (mainImage != null) {
+            return mainImage.getCardLink();
+        }
+        return "";
+    }
+
     public void addUserEvent(BoardUserEvent boardUserEvent) {
         this.boardUserEvent.add(boardUserEvent);
     }
@@ -154,7 +181,7 @@ public class Board extends BaseEntity {
     }
 
     public int starTotalCount() {
-        return comments.size();
+        return starCount;
     }
 
     public void addHistory(BoardHistory boardHistory){
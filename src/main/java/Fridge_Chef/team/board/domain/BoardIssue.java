@@ -9,7 +9,9 @@ import static lombok.AccessLevel.PROTECTED;
 
 @Entity
 @Getter
-@Table
+@Table(indexes = {
+        @Index(name = "idx_board_issue_board", columnList = "board_id, create_time")
+})
 @NoArgsConstructor(access = PROTECTED)
 public class BoardIssue extends BaseEntity {
     @Id
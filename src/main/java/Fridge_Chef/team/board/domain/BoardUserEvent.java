@@ -13,7 +13,11 @@ import static lombok.AccessLevel.PROTECTED;
 
 @Entity
 @Getter
-@Table
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_board_user_event", columnNames = {"board_id", "user_id"})
+}, indexes = {
+        @Index(name = "idx_board_user_event_user_hit", columnList = "user_id, hit, board_id")
+})
 @NoArgsConstructor(access = PROTECTED)
 public class BoardUserEvent extends BaseEntity {
     @Id
@@ -0,0 +1,42 @@
+package Fridge_Chef.team.board.domain;
+
+import Fridge_Chef.team.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDate;
+
+import static lombok.AccessLevel.PROTECTED;
+
+/**
+ * 게시글 일별 조회수, (board_id, view_day) 당 한 행
+ */
+@Entity
+@Getter
+@Table(name = "board_view_daily",
+        uniqueConstraints = @UniqueConstraint(name = "uk_board_view_daily", columnNames = {"board_id", "view_day"}))
+@NoArgsConstructor(access = PROTECTED)
+public class BoardViewDaily extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "board_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Board board;
+
+    @Column(name = "view_day", nullable = false)
+    private LocalDate day;
+    private long count;
+
+    public BoardViewDaily(Board board, LocalDate day, long count) {
+        this.board = board;
+        this.day = day;
+        this.count = count;
+    }
+}
@@ -0,0 +1,95 @@
+package Fridge_Chef.team.board.domain;
+
+import Fridge_Chef.team.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+import static lombok.AccessLevel.PROTECTED;
+
+/**
+ * 게시글별 이번주/지난주, 이번달/지난달 조회수 합계
+ * 집계 기간이 지나면 조회 시점 기준으로 해석하므로 기간이 바뀌어도 갱신 없이 바로 읽을 수 있다.
+ */
+@Entity
+@Getter
+@Table(name = "board_view_summary")
+@NoArgsConstructor(access = PROTECTED)
+public class BoardViewSummary extends BaseEntity {
+    @Id
+    private Long id;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "board_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Board board;
+
+    private LocalDate weekStart;
+    private long thisWeek;
+    private long lastWeek;
+    private LocalDate monthStart;
+    private long thisMonth;
+    private long lastMonth;
+
+    public BoardViewSummary(Board board, LocalDate today) {
+        this.board = board;
+        this.weekStart = weekOf(today);
+        this.monthStart = monthOf(today);
+    }
+
+    public void add(LocalDate today, long views) {
+        LocalDate week = weekOf(today);
+        if (!week.equals(weekStart)) {
+            lastWeek = week.minusWeeks(1).equals(weekStart) ? thisWeek : 0;
+            thisWeek = 0;
+            weekStart = week;
+        }
+        LocalDate month = monthOf(today);
+        if (!month.equals(monthStart)) {
+            lastMonth = month.minusMonths(1).equals(monthStart) ? thisMonth : 0;
+            thisMonth = 0;
+            monthStart = month;
+        }
+        thisWeek += views;
+        thisMonth += views;
+    }
+
+    public long thisWeek(LocalDate today) {
+        return weekOf(today).equals(weekStart) ? thisWeek : 0;
+    }
+
+    public long lastWeek(LocalDate today) {
+        LocalDate week = weekOf(today);
+        if (week.equals(weekStart)) {
+            return lastWeek;
+        }
+        return week.minusWeeks(1).equals(weekStart) ? thisWeek : 0;
+    }
+
+    public long thisMonth(LocalDate today) {
+        return monthOf(today).equals(monthStart) ? thisMonth : 0;
+    }
+
+    public long lastMonth(LocalDate today) {
+        LocalDate month = monthOf(today);
+        if (month.equals(monthStart)) {
+            return lastMonth;
+        }
+        return month.minusMonths(1).equals(monthStart) ? thisMonth : 0;
+    }
+
+    private static LocalDate weekOf(LocalDate day) {
+        return day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    private static LocalDate monthOf(LocalDate day) {
+        return day.withDayOfMonth(1);
+    }
+}
@@ -1,90 +1,153 @@
 package Fridge_Chef.team.board.job;
 
-import Fridge_Chef.team.board.domain.Board;
-import Fridge_Chef.team.board.domain.BoardHistory;
 import Fridge_Chef.team.board.domain.BoardIssue;
+import Fridge_Chef.team.board.domain.BoardViewSummary;
 import Fridge_Chef.team.board.repository.BoardIssueRepository;
 import Fridge_Chef.team.board.repository.BoardRepository;
+import Fridge_Chef.team.common.job.ChunkedJobResult;
+import Fridge_Chef.team.common.job.ChunkedJobRunner;
 import Fridge_Chef.team.user.repository.UserRepository;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
-import java.time.temporal.TemporalAdjusters;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static Fridge_Chef.team.board.domain.QBoard.board;
+import static Fridge_Chef.team.board.domain.QBoardIssue.boardIssue;
+import static Fridge_Chef.team.board.domain.QBoardViewSummary.boardViewSummary;
+import static Fridge_Chef.team.comment.domain.QComment.comment;
 
 @Slf4j
 @Component
 public class BoardJob {
+    private static final int MIN_COUNT = 10;
+    private static final double MIN_STAR = 3.5;
+    private static final int CHUNK_SIZE = 500;
     private final BoardRepository boardRepository;
     private final UserRepository userRepository;
     private final BoardIssueRepository boardIssueRepository;
+    private final JPAQueryFactory factory;
+    private final ChunkedJobRunner chunkedJobRunner;
 
-    public BoardJob(BoardRepository boardRepository, UserRepository userRepository, BoardIssueRepository boardIssueRepository) {
+    public BoardJob(BoardRepository boardRepository, UserRepository userRepository, BoardIssueRepository boardIssueRepository,
+                    JPAQueryFactory factory, ChunkedJobRunner chunkedJobRunner) {
         this.boardRepository = boardRepository;
         this.userRepository = userRepository;
         this.boardIssueRepository = boardIssueRepository;
+        this.factory = factory;
+        this.chunkedJobRunner = chunkedJobRunner;
     }
 
-    @Transactional
+    /**
+     * 조회수, 별점 조건을 만족하는 게시글 id 를 키셋 청크로 나눠서, 청크마다 미리 쌓아둔 이번주/지난주 합계를 한번에 조회
+     * 오늘 이미 등록된 이슈는 한번에 조회 후 제외, 새 이슈만 saveAll
+     */
     @Scheduled(cron = "0 0/10 * * * ?")
     void recipeIssueUp() {
-        log.info("추천 레시피 스케줄러 run()");
-        List<Board> boards = boardRepository.findAll();
-        int userSize = userRepository.findAll().size();
-
-        // 오늘의 시작과 끝 시각 계산
-        LocalDateTime startOfDay = LocalDateTime.now().truncatedTo(ChronoUnit.DAYS);
-        LocalDateTime endOfDay = startOfDay.plusDays(1).minusNanos(1);
-
-
-        for (Board board : boards) {
-            if (board.getCount() <= 10) {
-                return;
-            }
-            if (!(board.getCount() >= (userSize / 2) &&
-                    (board.getTotalStar() >= 3.5))) {
-                return;
-            }
-            var thisWeekStart = LocalDateTime.now()
-                    .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
-                    .truncatedTo(ChronoUnit.DAYS);
-
-            var lastWeekStart = thisWeekStart.minusWeeks(1);
-            var lastWeekEnd = thisWeekStart.minusNanos(1);
-
-            int thisWeekCount = board.getHistorys().stream()
-                    .filter(history -> {
-                        var createTime = history.getCreateTime();
-                        return createTime.isAfter(thisWeekStart) && createTime.isBefore(LocalDateTime.now());
-                    })
-                    .mapToInt(BoardHistory::getCount)
-                    .sum();
-
-            int lastWeekCount = board.getHistorys().stream()
-                    .filter(history -> {
-                        var createTime = history.getCreateTime();
-                        return createTime.isAfter(lastWeekStart) && createTime.isBefore(lastWeekEnd);
-                    })
-                    .mapToInt(BoardHistory::getCount)
-                    .sum();
+        int userSize = Math.toIntExact(userRepository.count());
+        LocalDate today = LocalDate.now();
+        AtomicInteger issueCount = new AtomicInteger();
+
+        ChunkedJobResult result = chunkedJobRunner.<Long>run("recipeIssueUp", CHUNK_SIZE,
+                (after, size) -> factory
+                        .select(board.id)
+                        .from(board)
+                        .where(board.count.gt(MIN_COUNT),
+                                board.count.goe(userSize / 2),
+                                board.totalStar.goe(MIN_STAR),
+                                after == null ? null : board.id.gt(after))
+                        .orderBy(board.id.asc())
+                        .limit(size)
+                        .fetch(),
+                boardIds -> {
+                    List<BoardIssue> issues = newIssues(trending(boardIds, userSize, today));
+                    boardIssueRepository.saveAll(issues);
+                    issueCount.addAndGet(issues.size());
+                });
+
+        log.info("추천 레시피 스케줄러 : 유저 " + userSize + ", 후보 " + result.processed() + ", 신규 이슈 " + issueCount.get()
+                + ", " + result.elapsedMillis() + "ms");
+    }
 
-            int countDifference = thisWeekCount - lastWeekCount;
+    /**
+     * 댓글 등록/수정/삭제시 증감하는 별점 합계, 개수, 평균을 댓글 기준으로 다시 계산 (누락, 기존 데이터 보정)
+     */
+    @Scheduled(cron = "0 0 4 * * ?")
+    void starReconcile() {
+        chunkedJobRunner.<Long>run("starReconcile", CHUNK_SIZE,
+                (after, size) -> factory
+                        .select(board.id)
+                        .from(board)
+                        .where(after == null ? null : board.id.gt(after))
+                        .orderBy(board.id.asc())
+                        .limit(size)
+                        .fetch(),
+                boardIds -> {
+                    factory.update(board)
+                            .set(board.starSum, JPAExpressions
+                                    .select(comment.star.sum().coalesce(0.0))
+                                    .from(comment)
+                                    .where(comment.board.id.eq(board.id)))
+                            .set(board.starCount, JPAExpressions
+                                    .select(comment.count().intValue())
+                                    .from(comment)
+                                    .where(comment.board.id.eq(board.id)))
+                            .where(board.id.in(boardIds))
+                            .execute();
+                    factory.update(board)
+                            .set(board.totalStar, new CaseBuilder()
+                                    .when(board.starCount.gt(0)).then(board.starSum.divide(board.starCount))
+                                    .otherwise(0.0))
+                            .where(board.id.in(boardIds))
+                            .execute();
+                });
+    }
 
-            if (countDifference == 0) {
-                return;
-            }
+    /**
+     * 게시글당 주/월 합계 한 행만 읽어서 이번주 - 지난주 조회수 차이로 판단, 조회가 없던 게시글은 행이 없어 제외
+     */
+    private List<Long> trending(List<Long> boardIds, int userSize, LocalDate today) {
+        return factory
+                .selectFrom(boardViewSummary)
+                .where(boardViewSummary.id.in(boardIds))
+                .fetch()
+                .stream()
+                .filter(summary -> {
+                    long countDifference = summary.thisWeek(today) - summary.lastWeek(today);
+                    return countDifference != 0 && isShouldSave(userSize, (int) countDifference);
+                })
+                .map(BoardViewSummary::getId)
+                .toList();
+    }
 
-            boolean shouldSave = isShouldSave(userSize,countDifference);
-            if (shouldSave &&! boardIssueRepository.existsByBoardAndCreateTimeBetween(board,startOfDay,endOfDay)) {
-                log.info(" 이슈 등록 "+ board.getTitle() +","+board.getId());
-                boardIssueRepository.save(new BoardIssue(board));
-            }
+    private List<BoardIssue> newIssues(List<Long> boardIds) {
+        if (boardIds.isEmpty()) {
+            return List.of();
         }
+        LocalDateTime startOfDay = LocalDateTime.now().truncatedTo(ChronoUnit.DAYS);
+        LocalDateTime endOfDay = startOfDay.plusDays(1).minusNanos(1);
+
+        Set<Long> issuedToday = new HashSet<>(factory
+                .select(boardIssue.board.id)
+                .from(boardIssue)
+                .where(boardIssue.board.id.in(boardIds),
+                        boardIssue.createTime.between(startOfDay, endOfDay))
+                .fetch());
+
+        return boardIds.stream()
+                .filter(boardId -> !issuedToday.contains(boardId))
+                .map(boardId -> new BoardIssue(boardRepository.getReferenceById(boardId)))
+                .toList();
     }
 
     private boolean isShouldSave(int userSize,int size){
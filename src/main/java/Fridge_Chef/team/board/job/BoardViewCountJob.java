@@ -0,0 +1,41 @@
+package Fridge_Chef.team.board.job;
+
+import Fridge_Chef.team.board.service.BoardViewCountService;
+import Fridge_Chef.team.board.service.BoardViewCounter;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Slf4j
+@Component
+public class BoardViewCountJob {
+    private final BoardViewCounter boardViewCounter;
+    private final BoardViewCountService boardViewCountService;
+
+    public BoardViewCountJob(BoardViewCounter boardViewCounter, BoardViewCountService boardViewCountService) {
+        this.boardViewCounter = boardViewCounter;
+        this.boardViewCountService = boardViewCountService;
+    }
+
+    @Scheduled(fixedDelayString = "${board.view-count.flush-interval-ms:10000}")
+    void flush() {
+        Map<Long, Long> counts = boardViewCounter.drain();
+        if (counts.isEmpty()) {
+            return;
+        }
+        try {
+            boardViewCountService.apply(counts);
+        } catch (RuntimeException e) {
+            boardViewCounter.restore(counts);
+            log.error("조회수 반영 실패, 다음 주기에 재시도 : " + counts.size() + "건", e);
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,36 @@
+package Fridge_Chef.team.board.migration;
+
+import Fridge_Chef.team.common.migration.SchemaMigration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * star_sum/star_count 컬럼 추가 전 게시글은 0 으로 시작하므로 첫 댓글 반영 전에 comments 로 채운다.
+ * 채우지 않으면 배포 후 첫 별점이 total_star 를 그 한 건으로 덮어쓴다. (starReconcile 과 같은 집계)
+ */
+@Component
+public class BoardStarBackfill implements SchemaMigration {
+
+    @Override
+    public int version() {
+        return 4;
+    }
+
+    @Override
+    public String description() {
+        return "board star_sum/star_count/total_star backfill";
+    }
+
+    @Override
+    public void migrate(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("""
+                update board b
+                set star_sum = (select coalesce(sum(c.star), 0) from comments c where c.board_id = b.id),
+                    star_count = (select count(*) from comments c where c.board_id = b.id)
+                """);
+        jdbcTemplate.update("""
+                update board
+                set total_star = case when star_count > 0 then star_sum / star_count else 0 end
+                """);
+    }
+}
@@ -0,0 +1,60 @@
+package Fridge_Chef.team.board.migration;
+
+import Fridge_Chef.team.common.migration.SchemaMigration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * (board_id, user_id) 중복 좋아요 이벤트를 한 행(가장 작은 id, hit/star 는 max)으로 합치고
+ * 게시글 좋아요 수를 다시 집계한 뒤 uk_board_user_event 를 만든다.
+ * 중복이 있으면 hibernate update 가 unique 제약을 만들지 못하고 넘어가므로 여기서 만든다.
+ * alter 가 실패하면 (그 사이 중복이 다시 들어온 경우) 기록되지 않고 다음 기동에 정리부터 다시 실행
+ */
+@Component
+public class BoardUserEventDedupe implements SchemaMigration {
+
+    @Override
+    public int version() {
+        return 2;
+    }
+
+    @Override
+    public String description() {
+        return "board_user_event dedupe + uk_board_user_event";
+    }
+
+    @Override
+    public boolean transactional() {
+        return false;
+    }
+
+    @Override
+    public void migrate(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("""
+                update board_user_event e
+                set hit = (select max(x.hit) from board_user_event x where x.board_id = e.board_id and x.user_id = e.user_id),
+                    star = (select max(x.star) from board_user_event x where x.board_id = e.board_id and x.user_id = e.user_id)
+                where e.id in (select min(id) from board_user_event
+                               where board_id is not null and user_id is not null
+                               group by board_id, user_id
+                               having count(*) > 1)
+                """);
+        int deleted = jdbcTemplate.update("""
+                delete from board_user_event
+                where board_id is not null and user_id is not null
+                  and id not in (select min(id) from board_user_event
+                                 where board_id is not null and user_id is not null
+                                 group by board_id, user_id)
+                """);
+        if (deleted > 0) {
+            jdbcTemplate.update("""
+                    update board b
+                    set hit = (select count(*) from board_user_event e where e.board_id = b.id and e.hit = 1)
+                    """);
+        }
+
+        if (!SchemaMigration.uniqueKeyExists(jdbcTemplate, "board_user_event", "board_id", "user_id")) {
+            jdbcTemplate.execute("alter table board_user_event add constraint uk_board_user_event unique (board_id, user_id)");
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package Fridge_Chef.team.board.migration;
+
+import Fridge_Chef.team.common.migration.SchemaMigration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기존 board_history 일별 조회수를 board_view_daily 로 옮긴다.
+ * 배포 당일처럼 이미 board_view_daily 행이 있는 날은 더한다.
+ */
+@Component
+public class BoardViewDailyBackfill implements SchemaMigration {
+
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public String description() {
+        return "board_history -> board_view_daily";
+    }
+
+    @Override
+    public void migrate(JdbcTemplate jdbcTemplate) {
+        if (!SchemaMigration.tableExists(jdbcTemplate, "board_history")) {
+            return;
+        }
+        jdbcTemplate.update("""
+                merge into board_view_daily d
+                using (select board_id, trunc(create_time) view_day, sum(count) views
+                       from board_history
+                       where board_id is not null and create_time is not null
+                       group by board_id, trunc(create_time)) h
+                on (d.board_id = h.board_id and d.view_day = h.view_day)
+                when matched then update set d.count = d.count + h.views
+                when not matched then insert (board_id, view_day, count, create_time, update_time)
+                    values (h.board_id, h.view_day, h.views, current_timestamp, current_timestamp)
+                """);
+    }
+}
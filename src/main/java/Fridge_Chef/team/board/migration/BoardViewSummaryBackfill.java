@@ -0,0 +1,57 @@
+package Fridge_Chef.team.board.migration;
+
+import Fridge_Chef.team.common.migration.SchemaMigration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * board_view_daily 로 옮긴 조회수에서 실행 시점 기준 이번주/지난주, 이번달/지난달 합계를 채운다.
+ * 채우지 않으면 배포 후 첫 조회 전까지 추천 레시피 대상에서 빠진다.
+ */
+@Component
+public class BoardViewSummaryBackfill implements SchemaMigration {
+
+    @Override
+    public int version() {
+        return 5;
+    }
+
+    @Override
+    public String description() {
+        return "board_view_daily -> board_view_summary";
+    }
+
+    @Override
+    public void migrate(JdbcTemplate jdbcTemplate) {
+        LocalDate today = LocalDate.now();
+        Date weekStart = Date.valueOf(today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)));
+        Date lastWeekStart = Date.valueOf(weekStart.toLocalDate().minusWeeks(1));
+        Date monthStart = Date.valueOf(today.withDayOfMonth(1));
+        Date lastMonthStart = Date.valueOf(monthStart.toLocalDate().minusMonths(1));
+        Date from = lastWeekStart.before(lastMonthStart) ? lastWeekStart : lastMonthStart;
+
+        jdbcTemplate.update("""
+                merge into board_view_summary s
+                using (select board_id,
+                              sum(case when view_day >= ? then count else 0 end) this_week,
+                              sum(case when view_day >= ? and view_day < ? then count else 0 end) last_week,
+                              sum(case when view_day >= ? then count else 0 end) this_month,
+                              sum(case when view_day >= ? and view_day < ? then count else 0 end) last_month
+                       from board_view_daily
+                       where view_day >= ?
+                       group by board_id) d
+                on (s.board_id = d.board_id)
+                when matched then update set s.week_start = ?, s.this_week = d.this_week, s.last_week = d.last_week,
+                    s.month_start = ?, s.this_month = d.this_month, s.last_month = d.last_month
+                when not matched then insert (board_id, week_start, this_week, last_week, month_start, this_month, last_month, create_time, update_time)
+                    values (d.board_id, ?, d.this_week, d.last_week, ?, d.this_month, d.last_month, current_timestamp, current_timestamp)
+                """,
+                weekStart, lastWeekStart, weekStart, monthStart, lastMonthStart, monthStart, from,
+                weekStart, monthStart, weekStart, monthStart);
+    }
+}
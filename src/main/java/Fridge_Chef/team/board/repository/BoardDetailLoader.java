@@ -0,0 +1,118 @@
+package Fridge_Chef.team.board.repository;
+
+import Fridge_Chef.team.board.domain.QDescription;
+import Fridge_Chef.team.board.service.response.BoardMyRecipeResponse;
+import Fridge_Chef.team.board.service.response.BoardMyRecipeResponse.OwnedIngredientResponse;
+import Fridge_Chef.team.board.service.response.BoardMyRecipeResponse.RecipeIngredientResponse;
+import Fridge_Chef.team.board.service.response.BoardMyRecipeResponse.StepResponse;
+import Fridge_Chef.team.image.domain.Image;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static Fridge_Chef.team.board.domain.QBoard.board;
+import static Fridge_Chef.team.board.domain.QBoardIssue.boardIssue;
+import static Fridge_Chef.team.board.domain.QBoardUserEvent.boardUserEvent;
+import static Fridge_Chef.team.comment.domain.QComment.comment;
+import static Fridge_Chef.team.image.domain.QImage.image;
+import static Fridge_Chef.team.ingredient.domain.QIngredient.ingredient;
+import static Fridge_Chef.team.recipe.domain.QRecipeIngredient.recipeIngredient;
+import static Fridge_Chef.team.user.domain.QUser.user;
+
+/**
+ * 레시피 상세 조회, 게시글 연관 컬렉션을 하나씩 지연 로딩하지 않고 쿼리 3번으로 응답을 만든다.
+ * 1. 게시글 + 작성자 + 대표 이미지, 좋아요/후기 수와 최근 이슈 시각은 스칼라 서브쿼리
+ * 2. 재료 + 재료명
+ * 3. 조리 순서 + 이미지
+ * 재료와 조리 순서는 둘 다 bag 이라 한 쿼리로 fetch join 할 수 없어서 나눠서 조회
+ */
+@Repository
+@RequiredArgsConstructor
+public class BoardDetailLoader {
+    private final JPAQueryFactory factory;
+
+    public Optional<BoardMyRecipeResponse> load(Long boardId) {
+        Expression<Long> hitTotal = JPAExpressions.select(boardUserEvent.id.count())
+                .from(boardUserEvent)
+                .where(boardUserEvent.board.id.eq(board.id),
+                        boardUserEvent.hit.eq(1));
+        Expression<Long> starTotal = JPAExpressions.select(comment.id.count())
+                .from(comment)
+                .where(comment.board.id.eq(board.id));
+        Expression<LocalDateTime> lastIssueTime = JPAExpressions.select(boardIssue.createTime.max())
+                .from(boardIssue)
+                .where(boardIssue.board.id.eq(board.id));
+
+        Tuple row = factory.select(board.title, user.profile.username, board.introduction, board.totalStar,
+                        hitTotal, starTotal, image, lastIssueTime,
+                        board.context.dishTime, board.context.dishLevel, board.context.dishCategory)
+                .from(board)
+                .join(board.user, user)
+                .leftJoin(board.mainImage, image)
+                .where(board.id.eq(boardId))
+                .fetchOne();
+        if (row == null) {
+            return Optional.empty();
+        }
+
+        List<Tuple> ingredients = factory.select(recipeIngredient.id, ingredient.id, ingredient.name, recipeIngredient.quantity)
+                .from(board)
+                .join(board.context.boardIngredients, recipeIngredient)
+                .join(recipeIngredient.ingredient, ingredient)
+                .where(board.id.eq(boardId))
+                .orderBy(recipeIngredient.id.asc())
+                .fetch();
+
+        List<OwnedIngredientResponse> ownedIngredients = new ArrayList<>();
+        List<RecipeIngredientResponse> recipeIngredients = new ArrayList<>();
+        for (Tuple ingredientRow : ingredients) {
+            ownedIngredients.add(new OwnedIngredientResponse(ingredientRow.get(recipeIngredient.id), ingredientRow.get(ingredient.name)));
+            recipeIngredients.add(new RecipeIngredientResponse(ingredientRow.get(ingredient.id), ingredientRow.get(ingredient.name), ingredientRow.get(recipeIngredient.quantity)));
+        }
+
+        QDescription step = new QDescription("step");
+        List<StepResponse> instructions = factory.select(step.description, image)
+                .from(board)
+                .join(board.context.descriptions, step)
+                .leftJoin(step.image, image)
+                .where(board.id.eq(boardId))
+                .orderBy(step.id.asc())
+                .fetch()
+                .stream()
+                .map(stepRow -> new StepResponse(stepRow.get(step.description), link(stepRow.get(image))))
+                .toList();
+
+        return Optional.of(new BoardMyRecipeResponse(
+                row.get(board.title),
+                row.get(user.profile.username),
+                row.get(board.introduction),
+                row.get(board.totalStar),
+                toInt(row.get(hitTotal)),
+                toInt(row.get(starTotal)),
+                link(row.get(image)),
+                BoardMyRecipeResponse.issueInfo(row.get(lastIssueTime)),
+                row.get(board.context.dishTime),
+                row.get(board.context.dishLevel),
+                row.get(board.context.dishCategory),
+                ownedIngredients,
+                recipeIngredients,
+                instructions,
+                boardId));
+    }
+
+    private String link(Image entity) {
+        return entity == null ? "" : entity.getFullLink();
+    }
+
+    private int toInt(Long value) {
+        return value == null ? 0 : Math.toIntExact(value);
+    }
+}
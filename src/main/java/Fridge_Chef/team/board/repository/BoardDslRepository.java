@@ -2,11 +2,20 @@ package Fridge_Chef.team.board.repository;
 
 import Fridge_Chef.team.board.domain.Board;
 import Fridge_Chef.team.board.domain.BoardType;
+import Fridge_Chef.team.board.repository.model.BoardCounters;
 import Fridge_Chef.team.board.repository.model.IssueType;
 import Fridge_Chef.team.board.repository.model.SortType;
 import Fridge_Chef.team.board.rest.request.BoardPageRequest;
 import Fridge_Chef.team.board.service.response.BoardMyRecipePageResponse;
+import Fridge_Chef.team.common.page.CursorPage;
+import Fridge_Chef.team.common.page.PageCursor;
 import Fridge_Chef.team.user.domain.UserId;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
@@ -20,10 +29,12 @@ import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalAdjusters;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import static Fridge_Chef.team.board.domain.QBoard.board;
 import static Fridge_Chef.team.board.domain.QBoardIssue.boardIssue;
+import static Fridge_Chef.team.user.domain.QUser.user;
 
 @Repository
 @RequiredArgsConstructor
@@ -31,7 +42,9 @@ public class BoardDslRepository {
     private final JPAQueryFactory factory;
 
     public Page<BoardMyRecipePageResponse> findByPageUsers(PageRequest pageable, BoardPageRequest pageRequest,UserId userId) {
-        JPAQuery<Board> query = createBaseQuery(pageable, pageRequest);
+        JPAQuery<Board> query = createBaseQuery(pageRequest)
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize());
 
         applySort(query, pageRequest.getSortType());
 
@@ -42,16 +55,87 @@ public class BoardDslRepository {
         return PageableExecutionUtils.getPage(content , pageable, () -> query.fetch().size());
     }
 
-    private JPAQuery<Board> createBaseQuery(PageRequest pageable, BoardPageRequest request) {
+    /**
+     * 좋아요 수를 읽지 않고 DB 에서 hit = hit + delta 로 갱신, 0 아래로는 내려가지 않는다.
+     */
+    public long addHit(Long boardId, int delta) {
+        return factory.update(board)
+                .set(board.hit, board.hit.add(delta))
+                .where(board.id.eq(boardId),
+                        delta < 0 ? board.hit.gt(0) : null)
+                .execute();
+    }
+
+    /**
+     * 별점 합계, 개수를 DB 에서 증감하고 같은 update 에서 평균을 다시 계산한다.
+     * 등록 (star, 1), 수정 (새 별점 - 이전 별점, 0), 삭제 (-star, -1)
+     */
+    public long addStar(Long boardId, double starDelta, int countDelta) {
+        NumberExpression<Integer> starCount = board.starCount.add(countDelta);
+        NumberExpression<Double> starSum = board.starSum.add(starDelta);
+        return factory.update(board)
+                .set(board.starSum, starSum)
+                .set(board.starCount, starCount)
+                .set(board.totalStar, new CaseBuilder()
+                        .when(starCount.gt(0)).then(starSum.divide(starCount))
+                        .otherwise(0.0))
+                .where(board.id.eq(boardId))
+                .execute();
+    }
+
+    public int findHit(Long boardId) {
+        Integer hit = factory.select(board.hit)
+                .from(board)
+                .where(board.id.eq(boardId))
+                .fetchOne();
+        return hit == null ? 0 : hit;
+    }
+
+    /**
+     * 상세 캐시에 덧씌울 자주 바뀌는 값, pk 한 행 + 작성자 + 최근 이슈 시각만 읽는다.
+     */
+    public Optional<BoardCounters> findCounters(Long boardId) {
+        Expression<LocalDateTime> lastIssueTime = JPAExpressions.select(boardIssue.createTime.max())
+                .from(boardIssue)
+                .where(boardIssue.board.id.eq(board.id));
+        Tuple row = factory.select(board.totalStar, board.hit, board.starCount, user.profile.username, lastIssueTime)
+                .from(board)
+                .join(board.user, user)
+                .where(board.id.eq(boardId))
+                .fetchOne();
+        if (row == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new BoardCounters(row.get(board.totalStar), row.get(board.hit), row.get(board.starCount),
+                row.get(user.profile.username), row.get(lastIssueTime)));
+    }
+
+    /**
+     * 키셋 페이지, offset 대신 마지막 행의 (정렬값, id) 이후만 조회
+     */
+    public CursorPage<BoardMyRecipePageResponse> findByCursor(BoardPageRequest pageRequest, String cursor, UserId userId) {
+        SortType sortType = pageRequest.getSortType();
+        JPAQuery<Board> query = createBaseQuery(pageRequest)
+                .limit(pageRequest.getSize() + 1);
+
+        if (cursor != null && !cursor.isBlank()) {
+            query.where(seek(sortType, PageCursor.decode(cursor, sortType)));
+        }
+        applySort(query, sortType);
+
+        return CursorPage.of(query.fetch(), pageRequest.getSize(),
+                entity -> PageCursor.of(sortType, sortKey(sortType, entity), entity.getId()),
+                boards -> boards.stream()
+                        .map(entity -> BoardMyRecipePageResponse.ofEntity(sortType, entity, userId))
+                        .collect(Collectors.toList()));
+    }
+
+    private JPAQuery<Board> createBaseQuery(BoardPageRequest request) {
         if (request.getIssueType() == null || request.getIssueType().equals(IssueType.ALL)) {
-            return factory.selectFrom(board)
-                    .offset(pageable.getOffset())
-                    .limit(pageable.getPageSize());
+            return factory.selectFrom(board);
         }
         JPAQuery<Board> query = factory.selectFrom(board)
-                .innerJoin(boardIssue).on(boardIssue.board.eq(board))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize());
+                .innerJoin(boardIssue).on(boardIssue.board.eq(board));
 
         LocalDateTime now = LocalDateTime.now();
         if (request.getIssueType().equals(IssueType.THIS_WEEK)) {
@@ -73,5 +157,28 @@ public class BoardDslRepository {
             case CLICKS -> query.orderBy(board.count.desc());
             default -> query.orderBy(board.createTime.desc());
         }
+        query.orderBy(board.id.desc());
+    }
+
+    private BooleanExpression seek(SortType sortType, PageCursor cursor) {
+        return switch (sortType) {
+            case RATING -> board.totalStar.lt(cursor.doubleKey())
+                    .or(board.totalStar.eq(cursor.doubleKey()).and(board.id.lt(cursor.id())));
+            case HIT -> board.hit.lt(cursor.intKey())
+                    .or(board.hit.eq(cursor.intKey()).and(board.id.lt(cursor.id())));
+            case CLICKS -> board.count.lt(cursor.intKey())
+                    .or(board.count.eq(cursor.intKey()).and(board.id.lt(cursor.id())));
+            default -> board.createTime.lt(cursor.timeKey())
+                    .or(board.createTime.eq(cursor.timeKey()).and(board.id.lt(cursor.id())));
+        };
+    }
+
+    private Object sortKey(SortType sortType, Board entity) {
+        return switch (sortType) {
+            case RATING -> entity.getTotalStar();
+            case HIT -> entity.getHit();
+            case CLICKS -> entity.getCount();
+            default -> entity.getCreateTime();
+        };
     }
 }
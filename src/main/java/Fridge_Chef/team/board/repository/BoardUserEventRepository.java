@@ -3,12 +3,19 @@ package Fridge_Chef.team.board.repository;
 import Fridge_Chef.team.board.domain.Board;
 import Fridge_Chef.team.board.domain.BoardUserEvent;
 import Fridge_Chef.team.user.domain.User;
+import Fridge_Chef.team.user.domain.UserId;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface BoardUserEventRepository extends JpaRepository<BoardUserEvent, Long> {
     List<BoardUserEvent> findByBoard(Board board);
 
     List<BoardUserEvent> findByBoardAndUser(Board board, User user);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<BoardUserEvent> findByBoardIdAndUserUserId(Long boardId, UserId userId);
 }
@@ -0,0 +1,28 @@
+package Fridge_Chef.team.board.repository;
+
+import Fridge_Chef.team.board.domain.BoardViewDaily;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface BoardViewDailyRepository extends JpaRepository<BoardViewDaily, Long> {
+    Optional<BoardViewDaily> findByBoardIdAndDay(Long boardId, LocalDate day);
+
+    /**
+     * (board_id, view_day) 행이 있으면 더하고 없으면 insert, 여러 인스턴스가 동시에 반영해도 한 문장으로 처리
+     */
+    @Modifying
+    @Query(value = """
+            merge into board_view_daily d
+            using dual on (d.board_id = :boardId and d.view_day = :day)
+            when matched then update set d.count = d.count + :views, d.update_time = :now
+            when not matched then insert (board_id, view_day, count, create_time, update_time)
+                values (:boardId, :day, :views, :now, :now)
+            """, nativeQuery = true)
+    int addCount(@Param("boardId") Long boardId, @Param("day") LocalDate day, @Param("views") long views, @Param("now") LocalDateTime now);
+}
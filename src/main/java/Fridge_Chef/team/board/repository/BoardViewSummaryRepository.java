@@ -0,0 +1,18 @@
+package Fridge_Chef.team.board.repository;
+
+import Fridge_Chef.team.board.domain.BoardViewSummary;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface BoardViewSummaryRepository extends JpaRepository<BoardViewSummary, Long> {
+
+    /**
+     * 여러 인스턴스의 조회수 반영이 같은 행을 읽고 더해서 덮어쓰지 않게 잠금 조회
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<BoardViewSummary> findByIdInOrderByIdAsc(Collection<Long> ids);
+}
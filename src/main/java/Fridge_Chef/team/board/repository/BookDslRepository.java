@@ -1,65 +1,107 @@
 package Fridge_Chef.team.board.repository;
 
-import Fridge_Chef.team.board.domain.Board;
 import Fridge_Chef.team.board.repository.model.BookType;
 import Fridge_Chef.team.board.repository.model.SortType;
 import Fridge_Chef.team.board.rest.request.BookCommentRequest;
 import Fridge_Chef.team.board.rest.request.BookRecipeRequest;
 import Fridge_Chef.team.board.rest.response.BookBoardResponse;
 import Fridge_Chef.team.board.rest.response.BookCommentResponse;
-import Fridge_Chef.team.comment.domain.Comment;
-import Fridge_Chef.team.comment.domain.QComment;
+import Fridge_Chef.team.common.page.CursorPage;
+import Fridge_Chef.team.common.page.PageCursor;
+import Fridge_Chef.team.image.domain.Image;
 import Fridge_Chef.team.user.domain.UserId;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import static Fridge_Chef.team.board.domain.QBoard.board;
-import static Fridge_Chef.team.comment.domain.QComment.comment;
 import static Fridge_Chef.team.board.domain.QBoardUserEvent.boardUserEvent;
-import static Fridge_Chef.team.comment.domain.QCommentUserEvent.commentUserEvent;
+import static Fridge_Chef.team.comment.domain.QComment.comment;
+import static Fridge_Chef.team.image.domain.QImage.image;
+import static Fridge_Chef.team.user.domain.QUser.user;
 
+/**
+ * 북마크 화면, 엔티티 대신 화면에 필요한 컬럼만 조회하고 전체 개수는 별도 count 쿼리
+ * 레시피 목록은 키셋 커서 페이지도 지원
+ */
 @Repository
 @RequiredArgsConstructor
 public class BookDslRepository {
     private final JPAQueryFactory factory;
 
     public Page<BookBoardResponse> findByBoard(PageRequest pageable, UserId userId, BookRecipeRequest request) {
-        JPAQuery<Board> query = factory.selectFrom(board)
+        BooleanExpression condition = boardCondition(userId, request.getBookType());
+
+        JPAQuery<Tuple> query = factory.select(board.id, image, board.title, board.totalStar, board.hit)
+                .from(board)
+                .leftJoin(board.mainImage, image)
+                .where(condition)
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .leftJoin(board.boardUserEvent,boardUserEvent);
-
-        if (request.getBookType().equals(BookType.MYRECIPE)) {
-            query.where(board.user.userId.eq(userId));
-        } else {
-            query.where(boardUserEvent.user.userId.eq(userId)
-                    .and(boardUserEvent.hit.eq(1)));
-        }
+                .limit(pageable.getPageSize());
 
         applyBoardSort(query, request.getSortType());
 
         List<BookBoardResponse> results = query.fetch()
                 .stream()
-                .map(BookBoardResponse::new)
-                .collect(Collectors.toList());
+                .map(row -> new BookBoardResponse(
+                        row.get(board.id),
+                        mainImageLink(row.get(image)),
+                        row.get(board.title),
+                        row.get(board.totalStar),
+                        row.get(board.hit)))
+                .toList();
+
+        return PageableExecutionUtils.getPage(results, pageable, () -> factory
+                .select(board.id.count())
+                .from(board)
+                .where(condition)
+                .fetchOne());
+    }
+
+    /**
+     * 키셋 페이지, 마지막 행의 (정렬값, id) 이후만 조회하고 전체 개수는 세지 않는다.
+     */
+    public CursorPage<BookBoardResponse> findByBoardCursor(BookRecipeRequest request, String cursor, UserId userId) {
+        SortType sortType = request.getSortType();
+        JPAQuery<Tuple> query = factory.select(board.id, image, board.title, board.totalStar, board.hit, board.count, board.createTime)
+                .from(board)
+                .leftJoin(board.mainImage, image)
+                .where(boardCondition(userId, request.getBookType()))
+                .limit(request.getSize() + 1);
+
+        if (cursor != null && !cursor.isBlank()) {
+            query.where(seek(sortType, PageCursor.decode(cursor, sortType)));
+        }
+        applyBoardSort(query, sortType);
 
-        return new PageImpl<>(results, pageable, results.size());
+        return CursorPage.of(query.fetch(), request.getSize(),
+                row -> PageCursor.of(sortType, sortKey(sortType, row), row.get(board.id)),
+                rows -> rows.stream()
+                        .map(row -> new BookBoardResponse(
+                                row.get(board.id),
+                                mainImageLink(row.get(image)),
+                                row.get(board.title),
+                                row.get(board.totalStar),
+                                row.get(board.hit)))
+                        .toList());
     }
 
     public Page<BookCommentResponse> findByComment(PageRequest pageable, UserId userId, BookCommentRequest request) {
-        QComment comment = QComment.comment;
+        BooleanExpression condition = comment.users.userId.value.eq(userId.getValue());
 
-        JPAQuery<Comment> query = factory.selectFrom(comment)
-                .leftJoin(comment.commentUserEvent,commentUserEvent)
-                .where(comment.users.userId.eq(userId))
+        JPAQuery<Tuple> query = factory.select(comment.board.id, comment.id, user.profile.username, comment.star, comment.comments)
+                .from(comment)
+                .join(comment.users, user)
+                .where(condition)
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize());
 
@@ -67,25 +109,78 @@ public class BookDslRepository {
 
         List<BookCommentResponse> results = query.fetch()
                 .stream()
-                .map(BookCommentResponse::new)
-                .collect(Collectors.toList());
+                .map(row -> new BookCommentResponse(
+                        row.get(comment.board.id),
+                        row.get(comment.id),
+                        row.get(user.profile.username),
+                        row.get(comment.star),
+                        row.get(comment.comments)))
+                .toList();
 
-        return new PageImpl<>(results, pageable, results.size());
+        return PageableExecutionUtils.getPage(results, pageable, () -> factory
+                .select(comment.id.count())
+                .from(comment)
+                .where(condition)
+                .fetchOne());
     }
 
-    private void applyBoardSort(JPAQuery<Board> query, SortType sortType) {
+    /**
+     * 좋아요한 레시피는 join 대신 exists, 게시글이 좋아요 이벤트 수만큼 중복되지 않는다.
+     */
+    private BooleanExpression boardCondition(UserId userId, BookType bookType) {
+        if (bookType.equals(BookType.MYRECIPE)) {
+            return board.user.userId.value.eq(userId.getValue());
+        }
+        return JPAExpressions.selectOne()
+                .from(boardUserEvent)
+                .where(boardUserEvent.board.id.eq(board.id),
+                        boardUserEvent.user.userId.value.eq(userId.getValue()),
+                        boardUserEvent.hit.eq(1))
+                .exists();
+    }
+
+    private String mainImageLink(Image mainImage) {
+        return mainImage == null ? "" : mainImage.getCardLink();
+    }
+
+    private void applyBoardSort(JPAQuery<?> query, SortType sortType) {
         switch (sortType) {
             case RATING -> query.orderBy(board.totalStar.desc());
             case HIT -> query.orderBy(board.hit.desc());
             case CLICKS -> query.orderBy(board.count.desc());
             default -> query.orderBy(board.createTime.desc());
         }
+        query.orderBy(board.id.desc());
     }
-    private void applyCommentSort(JPAQuery<Comment> query, SortType sortType) {
+
+    private BooleanExpression seek(SortType sortType, PageCursor cursor) {
+        return switch (sortType) {
+            case RATING -> board.totalStar.lt(cursor.doubleKey())
+                    .or(board.totalStar.eq(cursor.doubleKey()).and(board.id.lt(cursor.id())));
+            case HIT -> board.hit.lt(cursor.intKey())
+                    .or(board.hit.eq(cursor.intKey()).and(board.id.lt(cursor.id())));
+            case CLICKS -> board.count.lt(cursor.intKey())
+                    .or(board.count.eq(cursor.intKey()).and(board.id.lt(cursor.id())));
+            default -> board.createTime.lt(cursor.timeKey())
+                    .or(board.createTime.eq(cursor.timeKey()).and(board.id.lt(cursor.id())));
+        };
+    }
+
+    private Object sortKey(SortType sortType, Tuple row) {
+        return switch (sortType) {
+            case RATING -> row.get(board.totalStar);
+            case HIT -> row.get(board.hit);
+            case CLICKS -> row.get(board.count);
+            default -> row.get(board.createTime);
+        };
+    }
+
+    private void applyCommentSort(JPAQuery<?> query, SortType sortType) {
         switch (sortType) {
             case RATING -> query.orderBy(comment.star.desc());
             case HIT -> query.orderBy(comment.totalHit.desc());
             default -> query.orderBy(comment.createTime.desc());
         }
+        query.orderBy(comment.id.desc());
     }
 }
@@ -0,0 +1,9 @@
+package Fridge_Chef.team.board.repository.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 별점 평균, 좋아요 수, 후기 수, 작성자 닉네임, 최근 이슈 시각
+ */
+public record BoardCounters(double rating, int hitTotal, int starTotal, String username, LocalDateTime lastIssueTime) {
+}
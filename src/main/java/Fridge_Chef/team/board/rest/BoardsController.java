@@ -7,6 +7,7 @@ import Fridge_Chef.team.board.rest.request.BoardStarRequest;
 import Fridge_Chef.team.board.service.BoardService;
 import Fridge_Chef.team.board.service.response.BoardMyRecipePageResponse;
 import Fridge_Chef.team.board.service.response.BoardMyRecipeResponse;
+import Fridge_Chef.team.common.page.CursorPage;
 import Fridge_Chef.team.user.domain.UserId;
 import Fridge_Chef.team.user.rest.model.AuthenticatedUser;
 import lombok.RequiredArgsConstructor;
@@ -22,9 +23,9 @@ public class BoardsController {
 
     @GetMapping("/{board_id}")
     public BoardMyRecipeResponse targetFind(@PathVariable("board_id") Long boardId) {
+        BoardMyRecipeResponse response = boardService.findMyRecipeId(boardId);
         boardService.counting(boardId);
-
-        return boardService.findMyRecipeId(boardId);
+        return response;
     }
 
     @GetMapping
@@ -38,6 +39,17 @@ public class BoardsController {
         return boardService.findMyRecipes(userId, new BoardPageRequest(page, size, issue, sort));
     }
 
+    @GetMapping("/cursor")
+    public CursorPage<BoardMyRecipePageResponse> cursor(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10", required = false) int size,
+            @RequestParam(defaultValue = "ALL", required = false) IssueType issue,
+            @RequestParam(defaultValue = "LATEST", required = false) SortType sort) {
+        UserId userId = openUserId(user);
+        return boardService.findMyRecipesByCursor(userId, new BoardPageRequest(0, size, issue, sort), cursor);
+    }
+
     @PatchMapping("/{board_id}/like")
     public void hit(@AuthenticationPrincipal AuthenticatedUser user, @PathVariable("board_id") Long boardId) {
         boardService.updateUserHit(user.userId(), boardId);
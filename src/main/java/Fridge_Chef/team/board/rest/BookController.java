@@ -7,6 +7,7 @@ import Fridge_Chef.team.board.rest.request.BookRecipeRequest;
 import Fridge_Chef.team.board.rest.response.BookBoardResponse;
 import Fridge_Chef.team.board.rest.response.BookCommentResponse;
 import Fridge_Chef.team.board.service.BookService;
+import Fridge_Chef.team.common.page.CursorPage;
 import Fridge_Chef.team.user.rest.model.AuthenticatedUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -32,6 +33,16 @@ public class BookController {
         return bookService.selectBoards(user.userId(), new BookRecipeRequest(page, size, book, sort));
     }
 
+    @GetMapping("/recipe/cursor")
+    public CursorPage<BookBoardResponse> selectLikeByCursor(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10", required = false) int size,
+            @RequestParam(defaultValue = "MYRECIPE", required = false) BookType book,
+            @RequestParam(defaultValue = "LATEST", required = false) SortType sort) {
+        return bookService.selectBoardsByCursor(user.userId(), new BookRecipeRequest(0, size, book, sort), cursor);
+    }
+
     @GetMapping("/comment")
     public Page<BookCommentResponse> selectComment(
             @AuthenticationPrincipal AuthenticatedUser user,
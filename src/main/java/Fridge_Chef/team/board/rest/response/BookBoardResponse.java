@@ -16,7 +16,7 @@ public class BookBoardResponse {
 
     public BookBoardResponse(Board entity) {
         this.id=entity.getId();
-        this.mainImageLink=entity.getMainImageLink();
+        this.mainImageLink=entity.getMainImageCardLink();
         this.title=entity.getTitle();
         this.star=entity.getTotalStar();
         this.hit=entity.getHit();
@@ -0,0 +1,51 @@
+package Fridge_Chef.team.board.service;
+
+import Fridge_Chef.team.board.service.response.BoardMyRecipeResponse;
+import Fridge_Chef.team.common.cache.SingleFlightCache;
+import Fridge_Chef.team.common.transaction.AfterCommit;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 레시피 상세 본문 캐시 (제목, 재료, 조리 순서, 이미지), 별점/좋아요/후기 수는 조회 후 덧씌움
+ * 로컬 캐시 -> 공유 캐시(있으면) -> DB 순서로 조회, 같은 게시글 동시 miss 는 한 번만 로드
+ * 수정/삭제 커밋 후 해당 게시글만 무효화, 다른 서버의 로컬 캐시는 refresh 주기만큼 늦게 반영
+ * hit/miss 는 /actuator/metrics/cache.gets?tag=cache:boardDetail
+ */
+@Component
+public class BoardDetailCache {
+    private static final String NAME = "boardDetail";
+    private final SingleFlightCache<Long, BoardMyRecipeResponse> cache;
+    private final Optional<BoardDetailSharedCache> sharedCache;
+
+    public BoardDetailCache(MeterRegistry meterRegistry,
+                            Optional<BoardDetailSharedCache> sharedCache,
+                            @Value("${board.detail-cache.maximum-size:5000}") long maximumSize,
+                            @Value("${board.detail-cache.ttl-seconds:600}") long ttlSeconds,
+                            @Value("${board.detail-cache.refresh-seconds:60}") long refreshSeconds) {
+        this.cache = new SingleFlightCache<>(meterRegistry, NAME, maximumSize,
+                Duration.ofSeconds(ttlSeconds), Duration.ofSeconds(refreshSeconds));
+        this.sharedCache = sharedCache;
+    }
+
+    public BoardMyRecipeResponse get(Long boardId, Supplier<BoardMyRecipeResponse> loader) {
+        return cache.get(boardId, () -> sharedCache.flatMap(shared -> shared.get(boardId))
+                .orElseGet(() -> {
+                    BoardMyRecipeResponse detail = loader.get();
+                    sharedCache.ifPresent(shared -> shared.put(boardId, detail));
+                    return detail;
+                }));
+    }
+
+    public void evict(Long boardId) {
+        AfterCommit.run(() -> {
+            cache.invalidate(boardId);
+            sharedCache.ifPresent(shared -> shared.evict(boardId));
+        });
+    }
+}
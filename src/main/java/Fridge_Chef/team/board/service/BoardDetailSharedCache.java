@@ -0,0 +1,17 @@
+package Fridge_Chef.team.board.service;
+
+import Fridge_Chef.team.board.service.response.BoardMyRecipeResponse;
+
+import java.util.Optional;
+
+/**
+ * 서버 여러 대가 함께 쓰는 레시피 상세 캐시 (redis 등), 빈이 없으면 로컬 캐시만 사용
+ */
+public interface BoardDetailSharedCache {
+
+    Optional<BoardMyRecipeResponse> get(Long boardId);
+
+    void put(Long boardId, BoardMyRecipeResponse detail);
+
+    void evict(Long boardId);
+}
@@ -15,8 +15,11 @@ import Fridge_Chef.team.user.domain.UserId;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
@@ -32,19 +35,26 @@ public class BoardIngredientService {
         return findOrSaveIngredient(dto.name(), dto.detail());
     }
 
+    /**
+     * 조리 순서 이미지는 한 번에 동시 업로드 후 순서대로 연결
+     */
     @Transactional
     public List<Description> uploadInstructionImages(UserId userId, BoardByRecipeRequest request) {
         if (request.getDescriptions() == null) {
             return List.of();
         }
-        return request.getDescriptions()
-                .stream().map(instruction -> {
-                    if (instruction.getImage() == null) {
-                        return descriptionRepository.save(new Description(instruction.getContent(), null));
-                    }
-                    Image instructionImage = imageService.imageUpload(userId, instruction.getImage());
-                    return descriptionRepository.save(new Description(instruction.getContent(), instructionImage));
-                }).collect(Collectors.toList());
+        List<MultipartFile> files = request.getDescriptions()
+                .stream()
+                .map(BoardByRecipeRequest.Instructions::getImage)
+                .filter(Objects::nonNull)
+                .toList();
+        Iterator<Image> images = imageService.imageUploadAll(userId, files).iterator();
+
+        List<Description> descriptions = request.getDescriptions()
+                .stream()
+                .map(instruction -> new Description(instruction.getContent(), instruction.getImage() == null ? null : images.next()))
+                .toList();
+        return descriptionRepository.saveAll(descriptions);
     }
 
     @Transactional
@@ -52,15 +62,21 @@ public class BoardIngredientService {
         if (request.getInstructions() == null) {
             return List.of();
         }
+        List<MultipartFile> files = request.getInstructions()
+                .stream()
+                .filter(this::isImageUpload)
+                .map(BoardByRecipeUpdateRequest.Instructions::getImage)
+                .toList();
+        Iterator<Image> images = imageService.imageUploadAll(userId, files).iterator();
 
         return request.getInstructions()
-                .stream().map(instruction -> {
-                    if (instruction.isImageChange() && instruction.getImage() == null) {
-                        return new Description(instruction.getContent(), null);
-                    }
-                    Image instructionImage = imageService.imageUpload(userId, instruction.getImage());
-                    return new Description(instruction.getContent(), instructionImage);
-                }).collect(Collectors.toList());
+                .stream()
+                .map(instruction -> new Description(instruction.getContent(), isImageUpload(instruction) ? images.next() : null))
+                .collect(Collectors.toList());
+    }
+
+    private boolean isImageUpload(BoardByRecipeUpdateRequest.Instructions instruction) {
+        return !(instruction.isImageChange() && instruction.getImage() == null);
     }
 
     private RecipeIngredient findOrSaveIngredient(String name, String details) {
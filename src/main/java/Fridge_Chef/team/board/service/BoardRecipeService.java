@@ -14,9 +14,12 @@ import Fridge_Chef.team.ingredient.domain.Ingredient;
 import Fridge_Chef.team.ingredient.repository.IngredientRepository;
 import Fridge_Chef.team.ingredient.repository.RecipeIngredientRepository;
 import Fridge_Chef.team.recipe.domain.RecipeIngredient;
+import Fridge_Chef.team.recipe.service.RecipeIngredientIndex;
+import Fridge_Chef.team.recipe.service.RecipeSearchCache;
 import Fridge_Chef.team.user.domain.User;
 import Fridge_Chef.team.user.domain.UserId;
 import Fridge_Chef.team.user.repository.UserRepository;
+import Fridge_Chef.team.user.service.UserMyPageCountCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -36,6 +39,10 @@ public class BoardRecipeService {
     private final IngredientRepository ingredientRepository;
     private final RecipeIngredientRepository recipeIngredientRepository ;
     private final BoardIngredientService boardIngredientService;
+    private final RecipeIngredientIndex recipeIngredientIndex;
+    private final RecipeSearchCache recipeSearchCache;
+    private final BoardDetailCache boardDetailCache;
+    private final UserMyPageCountCache userMyPageCountCache;
 
     @Transactional
     public Board create(UserId userId, BoardByRecipeRequest request) {
@@ -53,6 +60,9 @@ public class BoardRecipeService {
         Board board = boardRepository.save(new Board(user, request.getDescription(), request.getName(), context, image, BoardType.USER));
         BoardUserEvent event = new BoardUserEvent(board, user);
         boardUserEventRepository.save(event);
+        recipeIngredientIndex.put(board.getId(), ingredients);
+        recipeSearchCache.invalidateAll();
+        userMyPageCountCache.invalidate(user.getUserId());
         log.info("레시피 등록 " + request.getName() + ", user " + user.getUsername());
         return board;
     }
@@ -115,6 +125,9 @@ public class BoardRecipeService {
         }
 
         board.updateContext(descriptions, request.getDescription(), request.getTitle(), request.getDishTime(), request.getDishLevel(), request.getDishCategory());
+        recipeIngredientIndex.put(board.getId(), board.getContext().getBoardIngredients());
+        recipeSearchCache.invalidateAll();
+        boardDetailCache.evict(board.getId());
         return board;
     }
 
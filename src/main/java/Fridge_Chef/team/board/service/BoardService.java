@@ -1,30 +1,32 @@
 package Fridge_Chef.team.board.service;
 
 import Fridge_Chef.team.board.domain.*;
+import Fridge_Chef.team.board.repository.BoardDetailLoader;
 import Fridge_Chef.team.board.repository.BoardDslRepository;
-import Fridge_Chef.team.board.repository.BoardHistoryRepository;
 import Fridge_Chef.team.board.repository.BoardRepository;
 import Fridge_Chef.team.board.repository.BoardUserEventRepository;
+import Fridge_Chef.team.board.repository.model.BoardCounters;
 import Fridge_Chef.team.board.rest.request.BoardPageRequest;
 import Fridge_Chef.team.board.service.response.BoardMyRecipePageResponse;
 import Fridge_Chef.team.board.service.response.BoardMyRecipeResponse;
+import Fridge_Chef.team.common.page.CursorPage;
 import Fridge_Chef.team.exception.ApiException;
 import Fridge_Chef.team.exception.ErrorCode;
 import Fridge_Chef.team.image.domain.Image;
 import Fridge_Chef.team.image.domain.ImageType;
 import Fridge_Chef.team.image.service.ImageService;
-import Fridge_Chef.team.user.domain.User;
+import Fridge_Chef.team.recipe.service.RecipeIngredientIndex;
+import Fridge_Chef.team.recipe.service.RecipeSearchCache;
 import Fridge_Chef.team.user.domain.UserId;
-import Fridge_Chef.team.user.repository.UserRepository;
+import Fridge_Chef.team.user.service.UserMyPageCountCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 @Slf4j
@@ -32,30 +34,28 @@ import java.util.List;
 @RequiredArgsConstructor
 public class BoardService {
     private final BoardDslRepository boardDslRepository;
+    private final BoardDetailLoader boardDetailLoader;
+    private final BoardDetailCache boardDetailCache;
     private final BoardRepository boardRepository;
     private final ImageService imageService;
-    private final UserRepository userRepository;
     private final BoardUserEventRepository boardUserEventRepository;
-    private final BoardHistoryRepository boardHistoryRepository;
-
+    private final BoardUserEventWriter boardUserEventWriter;
+    private final BoardViewCounter boardViewCounter;
+    private final RecipeIngredientIndex recipeIngredientIndex;
+    private final RecipeSearchCache recipeSearchCache;
+    private final UserMyPageCountCache userMyPageCountCache;
+
+    /**
+     * 본문은 상세 캐시, 별점/좋아요/후기 수/작성자 닉네임/이슈 표시는 매번 읽어서 덧씌움
+     */
     @Transactional(readOnly = true)
     public BoardMyRecipeResponse findMyRecipeId(Long boardId) {
-        Board board = findById(boardId);
-
-        var todayStart = LocalDateTime.now().truncatedTo(ChronoUnit.DAYS);
-        var todayEnd = todayStart.plusDays(1).minusNanos(1);
-        BoardHistory todayHistory = board.getHistorys()
-                .stream()
-                .filter(history -> {
-                    var createTime = history.getCreateTime();
-                    return createTime.isAfter(todayStart) && createTime.isBefore(todayEnd);
-                })
-                .findFirst()
-                .orElse(boardHistoryRepository.save(new BoardHistory(board, 0)));
-
-        todayHistory.countUp();
-        board.updateCount();
-        return BoardMyRecipeResponse.of(board);
+        BoardMyRecipeResponse detail = boardDetailCache.get(boardId, () -> boardDetailLoader.load(boardId)
+                .orElseThrow(() -> new ApiException(ErrorCode.BOARD_NOT_FOUND)));
+        BoardCounters counters = boardDslRepository.findCounters(boardId)
+                .orElseThrow(() -> new ApiException(ErrorCode.BOARD_NOT_FOUND));
+        return detail.withCounters(counters.rating(), counters.hitTotal(), counters.starTotal(),
+                counters.username(), BoardMyRecipeResponse.issueInfo(counters.lastIssueTime()));
     }
 
     @Transactional(readOnly = true)
@@ -67,6 +67,17 @@ public class BoardService {
         return boardDslRepository.findByPageUsers(page, request, userId);
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<BoardMyRecipePageResponse> findMyRecipesByCursor(UserId userId, BoardPageRequest request, String cursor) {
+        if (request.getSize() <= 0) {
+            throw new ApiException(ErrorCode.VALID_SIZE_MIN);
+        }
+        if (request.getSize() > 50) {
+            throw new ApiException(ErrorCode.VALID_SIZE_50);
+        }
+        return boardDslRepository.findByCursor(request, cursor, userId);
+    }
+
     @Transactional
     public void delete(UserId userId, Long boardId) {
         Board board = findByUserIdAndBoardId(userId, boardId);
@@ -92,39 +103,37 @@ public class BoardService {
             board.commentClear();
         }
         boardRepository.delete(board);
+        recipeIngredientIndex.remove(boardId);
+        recipeSearchCache.invalidateAll();
+        boardDetailCache.evict(boardId);
+        userMyPageCountCache.invalidate(userId);
         log.info("삭제");
     }
 
 
-    @Transactional
+    /**
+     * 조회수는 메모리에 누적 후 BoardViewCountJob 에서 일괄 반영
+     */
     public void counting(Long boardId) {
-        Board board = findById(boardId);
-        board.updateCount();
+        boardViewCounter.increment(boardId);
     }
 
+    /**
+     * (게시글, 유저) 이벤트 한 건만 잠금 조회 후 토글, 게시글 좋아요 수는 재집계 없이 +-1
+     */
     @Transactional
     public int updateUserHit(UserId userId, Long boardId) {
-        Board board = findById(boardId);
-        User user = userRepository.findByUserId(userId)
-                .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND));
-
-        var event = getUserEvent(user, board);
+        BoardUserEvent event = boardUserEventRepository.findByBoardIdAndUserUserId(boardId, userId)
+                .orElseGet(() -> createUserEvent(userId, boardId));
         event.hitUp();
 
-        int total = filterTotalHit(board);
-        board.updateHit(total);
+        boardDslRepository.addHit(boardId, event.isUserHit() ? 1 : -1);
+        userMyPageCountCache.invalidate(userId);
+        int total = boardDslRepository.findHit(boardId);
         log.info("게시글 좋아요 :" + event.getHit() + ",총함 :" + total);
         return total;
     }
 
-    private int filterTotalHit(Board board) {
-        return board.getBoardUserEvent()
-                .stream()
-                .filter(v -> v.getHit() == 1)
-                .toList()
-                .size();
-    }
-
     public Board findById(Long id) {
         return boardRepository.findById(id)
                 .orElseThrow(() -> new ApiException(ErrorCode.BOARD_NOT_FOUND));
@@ -142,12 +151,13 @@ public class BoardService {
         return board;
     }
 
-    private BoardUserEvent getUserEvent(User user, Board board) {
-        BoardUserEvent event = board.getBoardUserEvent().stream()
-                .filter(events -> events.getUser() != null && events.getUser().getUserId().equals(user.getUserId()))
-                .findAny()
-                .orElse(boardUserEventRepository.save(new BoardUserEvent(board, user)));
-        board.addUserEvent(event);
-        return event;
+    private BoardUserEvent createUserEvent(UserId userId, Long boardId) {
+        try {
+            boardUserEventWriter.create(userId, boardId);
+        } catch (DataIntegrityViolationException e) {
+            log.info("게시글 좋아요 이벤트 동시 생성, 다시 조회 : " + boardId);
+        }
+        return boardUserEventRepository.findByBoardIdAndUserUserId(boardId, userId)
+                .orElseThrow(() -> new ApiException(ErrorCode.BOARD_NOT_FOUND));
     }
 }
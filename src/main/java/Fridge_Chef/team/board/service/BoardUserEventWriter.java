@@ -0,0 +1,36 @@
+package Fridge_Chef.team.board.service;
+
+import Fridge_Chef.team.board.domain.Board;
+import Fridge_Chef.team.board.domain.BoardUserEvent;
+import Fridge_Chef.team.board.repository.BoardRepository;
+import Fridge_Chef.team.board.repository.BoardUserEventRepository;
+import Fridge_Chef.team.exception.ApiException;
+import Fridge_Chef.team.exception.ErrorCode;
+import Fridge_Chef.team.user.domain.User;
+import Fridge_Chef.team.user.domain.UserId;
+import Fridge_Chef.team.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class BoardUserEventWriter {
+    private final BoardRepository boardRepository;
+    private final UserRepository userRepository;
+    private final BoardUserEventRepository boardUserEventRepository;
+
+    /**
+     * 별도 트랜잭션으로 insert, 같은 (게시글, 유저) 첫 좋아요가 동시에 들어오면 늦은 쪽은 unique 위반
+     * 호출한 트랜잭션은 롤백 표시되지 않으므로 다시 조회해서 이어갈 수 있다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void create(UserId userId, Long boardId) {
+        Board board = boardRepository.findById(boardId)
+                .orElseThrow(() -> new ApiException(ErrorCode.BOARD_NOT_FOUND));
+        User user = userRepository.findByUserId(userId)
+                .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND));
+        boardUserEventRepository.saveAndFlush(new BoardUserEvent(board, user));
+    }
+}
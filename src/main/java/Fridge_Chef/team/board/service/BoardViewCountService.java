@@ -0,0 +1,59 @@
+package Fridge_Chef.team.board.service;
+
+import Fridge_Chef.team.board.domain.BoardViewSummary;
+import Fridge_Chef.team.board.repository.BoardRepository;
+import Fridge_Chef.team.board.repository.BoardViewDailyRepository;
+import Fridge_Chef.team.board.repository.BoardViewSummaryRepository;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static Fridge_Chef.team.board.domain.QBoard.board;
+
+@Service
+@RequiredArgsConstructor
+public class BoardViewCountService {
+    private final JPAQueryFactory factory;
+    private final BoardRepository boardRepository;
+    private final BoardViewDailyRepository boardViewDailyRepository;
+    private final BoardViewSummaryRepository boardViewSummaryRepository;
+
+    /**
+     * 게시글별 누적 조회수를 board.count, 일별 조회수(merge), 주/월 합계에 게시글당 한번씩 반영
+     * 다른 인스턴스와 같은 날 첫 행을 동시에 insert 해서 unique 위반이 나면 전체 롤백, BoardViewCountJob 이 되돌려서 다음 주기에 재시도
+     * (주/월 합계 첫 행도 같음)
+     */
+    @Transactional
+    public void apply(Map<Long, Long> counts) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate today = now.toLocalDate();
+        Map<Long, BoardViewSummary> summaries = boardViewSummaryRepository.findByIdInOrderByIdAsc(counts.keySet())
+                .stream()
+                .collect(Collectors.toMap(BoardViewSummary::getId, Function.identity()));
+
+        counts.forEach((boardId, views) -> {
+            long updated = factory.update(board)
+                    .set(board.count, board.count.add(Math.toIntExact(views)))
+                    .where(board.id.eq(boardId))
+                    .execute();
+            if (updated == 0) {
+                return;
+            }
+
+            boardViewDailyRepository.addCount(boardId, today, views, now);
+
+            BoardViewSummary summary = summaries.get(boardId);
+            if (summary == null) {
+                summary = boardViewSummaryRepository.save(new BoardViewSummary(boardRepository.getReferenceById(boardId), today));
+            }
+            summary.add(today, views);
+        });
+    }
+}
@@ -0,0 +1,46 @@
+package Fridge_Chef.team.board.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 조회수 메모리 누적, 조회마다 board/board_history 행을 잠그지 않도록
+ * BoardViewCountJob 이 주기적으로 drain 해서 한번에 반영한다.
+ * 증가와 drain 모두 키 단위로 원자적으로 처리해서 drain 중 들어온 조회수가 유실되지 않는다.
+ */
+@Component
+public class BoardViewCounter {
+    private final ConcurrentHashMap<Long, Long> counters = new ConcurrentHashMap<>();
+
+    public void increment(Long boardId) {
+        counters.merge(boardId, 1L, Long::sum);
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 조회수
+     */
+    public long pending(Long boardId) {
+        return counters.getOrDefault(boardId, 0L);
+    }
+
+    public Map<Long, Long> drain() {
+        Map<Long, Long> drained = new HashMap<>();
+        for (Long boardId : counters.keySet()) {
+            counters.computeIfPresent(boardId, (key, count) -> {
+                drained.put(key, count);
+                return null;
+            });
+        }
+        return drained;
+    }
+
+    /**
+     * 반영 실패시 다음 주기에 다시 반영하도록 되돌림
+     */
+    public void restore(Map<Long, Long> drained) {
+        drained.forEach((boardId, count) -> counters.merge(boardId, count, Long::sum));
+    }
+}
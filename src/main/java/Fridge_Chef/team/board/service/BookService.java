@@ -5,6 +5,9 @@ import Fridge_Chef.team.board.rest.request.BookCommentRequest;
 import Fridge_Chef.team.board.rest.request.BookRecipeRequest;
 import Fridge_Chef.team.board.rest.response.BookBoardResponse;
 import Fridge_Chef.team.board.rest.response.BookCommentResponse;
+import Fridge_Chef.team.common.page.CursorPage;
+import Fridge_Chef.team.exception.ApiException;
+import Fridge_Chef.team.exception.ErrorCode;
 import Fridge_Chef.team.user.domain.UserId;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -23,6 +26,17 @@ public class BookService {
         return bookDslRepository.findByBoard(pageable, userId, request);
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<BookBoardResponse> selectBoardsByCursor(UserId userId, BookRecipeRequest request, String cursor) {
+        if (request.getSize() <= 0) {
+            throw new ApiException(ErrorCode.VALID_SIZE_MIN);
+        }
+        if (request.getSize() > 50) {
+            throw new ApiException(ErrorCode.VALID_SIZE_50);
+        }
+        return bookDslRepository.findByBoardCursor(request, cursor, userId);
+    }
+
     @Transactional(readOnly = true)
     public Page<BookCommentResponse> selectComment(UserId userId, BookCommentRequest request) {
         PageRequest pageable = PageRequest.of(request.getPage(), request.getSize());
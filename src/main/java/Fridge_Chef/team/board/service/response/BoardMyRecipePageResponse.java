@@ -26,7 +26,7 @@ public class BoardMyRecipePageResponse {
     public static BoardMyRecipePageResponse ofEntity(SortType sortType, Board entity,UserId userId) {
         String link="";
         if(entity.getMainImage() != null && entity.getMainImage().getType() != null){
-            link=entity.getMainImageLink();
+            link=entity.getMainImageCardLink();
         }
         return new BoardMyRecipePageResponse(
                 sortType,
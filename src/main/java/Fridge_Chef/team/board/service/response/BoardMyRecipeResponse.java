@@ -1,7 +1,5 @@
 package Fridge_Chef.team.board.service.response;
 
-import Fridge_Chef.team.board.domain.Board;
-import Fridge_Chef.team.board.domain.BoardIssue;
 import Fridge_Chef.team.recipe.domain.Difficult;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -11,9 +9,7 @@ import java.time.DayOfWeek;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalAdjusters;
-import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 
 
 @Getter
@@ -77,54 +73,29 @@ public class BoardMyRecipeResponse {
         this.boardId = boardId;
     }
 
-    public static BoardMyRecipeResponse of(Board board) {
-        var ownedIngredients = board.getContext().getBoardIngredients().stream()
-                .map(ingredient -> new OwnedIngredientResponse(ingredient.getId(), ingredient.getIngredient().getName()))
-                .collect(Collectors.toList());
-
-        var recipeIngredients = board.getContext().getBoardIngredients().stream()
-                .map(ingredient -> new RecipeIngredientResponse(ingredient.getIngredient().getId(), ingredient.getIngredient().getName(), ingredient.getQuantity()))
-                .collect(Collectors.toList());
-
-
-        var instructions = board.getContext().getDescriptions()
-                .stream()
-                .map(step -> new StepResponse(step.getDescription(), step.getLink()))
-                .collect(Collectors.toList());
-
-
-        List<BoardIssue> boardIssues = board.getBoardIssues();
-        String issueInfo = generateIssueInfo(boardIssues);
-
-        return new BoardMyRecipeResponse(board.getTitle(),
-                board.getUser().getUsername(),
-                board.getIntroduction(),
-                board.getTotalStar(),
-                board.hitTotalCount(),
-                board.starTotalCount(),
-                board.getMainImageLink(),
-                issueInfo,
-                board.getContext().getDishTime(),
-                board.getContext().getDishLevel(),
-                board.getContext().getDishCategory(),
-                ownedIngredients,
-                recipeIngredients,
-                instructions,
-                board.getId());
+    /**
+     * 캐시된 본문은 그대로 두고 별점, 좋아요 수, 후기 수, 작성자 닉네임, 이슈 표시만 바꾼 복사본
+     */
+    public BoardMyRecipeResponse withCounters(double rating, int hitTotal, int starTotal, String username, String issueInfo) {
+        return new BoardMyRecipeResponse(title, username, description, rating, hitTotal, starTotal, mainImage, issueInfo,
+                dishTime, dishLevel, dishCategory, ownedIngredients, recipeIngredients, instructions, boardId);
     }
 
     private static String level(String level){
         Difficult difficult = Difficult.of(level);
         return difficult.getValue();
     }
-    private static String generateIssueInfo(List<BoardIssue> boardIssues) {
-        if (boardIssues == null || boardIssues.isEmpty()) {
+    /**
+     * 가장 최근 이슈 시각 기준, 이번달이면 이달의 레시피, 이번주면 이주의 레시피
+     */
+    public static String issueInfo(LocalDateTime lastIssueTime) {
+        if (lastIssueTime == null) {
             return "";
         }
         LocalDateTime now = LocalDateTime.now();
-        return boardIssues.stream().anyMatch(issue -> isThisMonth(issue.getCreateTime(), now))
+        return isThisMonth(lastIssueTime, now)
                 ? "이달의 레시피"
-                : boardIssues.stream().anyMatch(issue -> isThisWeek(issue.getCreateTime(), now))
+                : isThisWeek(lastIssueTime, now)
                 ? "이주의 레시피"
                 : "";
     }
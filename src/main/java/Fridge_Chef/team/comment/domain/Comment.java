@@ -9,22 +9,31 @@ import Fridge_Chef.team.user.domain.User;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.ArrayList;
 import java.util.List;
 
 import static lombok.AccessLevel.PROTECTED;
 
+/**
+ * total_hit 은 CommentDslRepository.addHit 으로만 바뀌므로 바뀐 컬럼만 update 한다. (댓글 수정이 좋아요 수를 덮어쓰지 않게)
+ */
 @Entity
 @Getter
-@Table(name = "comments")
+@DynamicUpdate
+@Table(name = "comments", indexes = {
+        @Index(name = "idx_comments_board", columnList = "board_id, id"),
+        @Index(name = "idx_comments_board_users", columnList = "board_id, users_id"),
+        @Index(name = "idx_comments_users", columnList = "users_id")
+})
 @NoArgsConstructor(access = PROTECTED)
 public class Comment extends BaseEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "id")
     private Long id;
-    @OneToMany(fetch = FetchType.LAZY, orphanRemoval = true)
+    @OneToMany(mappedBy = "comments", fetch = FetchType.LAZY, orphanRemoval = true)
     private List<CommentUserEvent> commentUserEvent;
     @OneToMany(fetch = FetchType.LAZY, cascade = CascadeType.PERSIST)
     private List<Image> commentImage;
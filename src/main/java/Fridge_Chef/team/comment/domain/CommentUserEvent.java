@@ -11,7 +11,9 @@ import static lombok.AccessLevel.PROTECTED;
 
 @Entity
 @Getter
-@Table
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_comment_user_event", columnNames = {"comments_id", "user_id"})
+})
 @NoArgsConstructor(access = PROTECTED)
 public class CommentUserEvent extends BaseEntity {
     @Id
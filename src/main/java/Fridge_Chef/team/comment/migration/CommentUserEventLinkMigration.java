@@ -0,0 +1,70 @@
+package Fridge_Chef.team.comment.migration;
+
+import Fridge_Chef.team.common.migration.SchemaMigration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Comment.commentUserEvent 가 join table 에서 comment_user_event.comments_id(mappedBy) 로 바뀌면서 남은
+ * comments_comment_user_event 의 연결을 comments_id 로 옮기고 join table 을 지운다. (남아 있으면 FK 때문에 삭제 실패)
+ * (comments_id, user_id) 중복은 한 행으로 합치고 댓글 좋아요 수를 다시 집계한 뒤 uk_comment_user_event 를 만든다.
+ * drop/alter 가 있어 트랜잭션 없이 실행, 각 단계는 다시 실행해도 같은 결과라 실패하면 다음 기동에 처음부터 다시 실행
+ */
+@Component
+public class CommentUserEventLinkMigration implements SchemaMigration {
+    private static final String JOIN_TABLE = "comments_comment_user_event";
+
+    @Override
+    public int version() {
+        return 3;
+    }
+
+    @Override
+    public String description() {
+        return "comments_comment_user_event -> comment_user_event.comments_id";
+    }
+
+    @Override
+    public boolean transactional() {
+        return false;
+    }
+
+    @Override
+    public void migrate(JdbcTemplate jdbcTemplate) {
+        if (SchemaMigration.tableExists(jdbcTemplate, JOIN_TABLE)) {
+            jdbcTemplate.update("""
+                    update comment_user_event e
+                    set comments_id = (select max(j.comment_id) from comments_comment_user_event j where j.comment_user_event_id = e.id)
+                    where e.comments_id is null
+                      and exists (select 1 from comments_comment_user_event j where j.comment_user_event_id = e.id)
+                    """);
+            jdbcTemplate.execute("drop table " + JOIN_TABLE);
+        }
+
+        jdbcTemplate.update("""
+                update comment_user_event e
+                set hit = (select max(x.hit) from comment_user_event x where x.comments_id = e.comments_id and x.user_id = e.user_id)
+                where e.id in (select min(id) from comment_user_event
+                               where comments_id is not null and user_id is not null
+                               group by comments_id, user_id
+                               having count(*) > 1)
+                """);
+        int deleted = jdbcTemplate.update("""
+                delete from comment_user_event
+                where comments_id is not null and user_id is not null
+                  and id not in (select min(id) from comment_user_event
+                                 where comments_id is not null and user_id is not null
+                                 group by comments_id, user_id)
+                """);
+        if (deleted > 0) {
+            jdbcTemplate.update("""
+                    update comments c
+                    set total_hit = (select count(*) from comment_user_event e where e.comments_id = c.id and e.hit = 1)
+                    """);
+        }
+
+        if (!SchemaMigration.uniqueKeyExists(jdbcTemplate, "comment_user_event", "comments_id", "user_id")) {
+            jdbcTemplate.execute("alter table comment_user_event add constraint uk_comment_user_event unique (comments_id, user_id)");
+        }
+    }
+}
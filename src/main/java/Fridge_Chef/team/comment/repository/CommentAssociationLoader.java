@@ -0,0 +1,79 @@
+package Fridge_Chef.team.comment.repository;
+
+import Fridge_Chef.team.comment.domain.Comment;
+import Fridge_Chef.team.comment.repository.model.CommentAssociations;
+import Fridge_Chef.team.image.domain.Image;
+import Fridge_Chef.team.user.domain.UserId;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+
+import static Fridge_Chef.team.comment.domain.QComment.comment;
+import static Fridge_Chef.team.comment.domain.QCommentUserEvent.commentUserEvent;
+import static Fridge_Chef.team.image.domain.QImage.image;
+import static Fridge_Chef.team.user.domain.QUser.user;
+
+/**
+ * 댓글 목록 응답을 만들 때 댓글마다 지연 로딩하지 않고 작성자 이름, 이미지, 내 좋아요 여부를 댓글 id IN 쿼리 3번으로 조회
+ */
+@Repository
+@RequiredArgsConstructor
+public class CommentAssociationLoader {
+    private final JPAQueryFactory factory;
+
+    public CommentAssociations load(List<Comment> comments, Optional<UserId> userId) {
+        List<Long> commentIds = comments.stream()
+                .map(Comment::getId)
+                .distinct()
+                .toList();
+        if (commentIds.isEmpty()) {
+            return new CommentAssociations(Map.of(), Map.of(), Set.of());
+        }
+        return new CommentAssociations(
+                findUserNames(commentIds),
+                findImageLinks(commentIds),
+                userId.map(id -> findLikedCommentIds(commentIds, id)).orElseGet(Set::of));
+    }
+
+    public Map<Long, String> findUserNames(List<Long> commentIds) {
+        Map<Long, String> userNames = new HashMap<>();
+        if (commentIds.isEmpty()) {
+            return userNames;
+        }
+        for (Tuple row : factory.select(comment.id, user.profile.username)
+                .from(comment)
+                .join(comment.users, user)
+                .where(comment.id.in(commentIds))
+                .fetch()) {
+            userNames.put(row.get(comment.id), row.get(user.profile.username));
+        }
+        return userNames;
+    }
+
+    public Map<Long, List<String>> findImageLinks(List<Long> commentIds) {
+        Map<Long, List<String>> imageLinks = new HashMap<>();
+        for (Tuple row : factory.select(comment.id, image)
+                .from(comment)
+                .join(comment.commentImage, image)
+                .where(comment.id.in(commentIds))
+                .orderBy(comment.id.asc(), image.id.asc())
+                .fetch()) {
+            Image entity = row.get(image);
+            imageLinks.computeIfAbsent(row.get(comment.id), key -> new ArrayList<>())
+                    .add(entity.getThumbnailLink());
+        }
+        return imageLinks;
+    }
+
+    public Set<Long> findLikedCommentIds(List<Long> commentIds, UserId userId) {
+        return new HashSet<>(factory.select(commentUserEvent.comments.id)
+                .from(commentUserEvent)
+                .where(commentUserEvent.comments.id.in(commentIds),
+                        commentUserEvent.user.userId.value.eq(userId.getValue()),
+                        commentUserEvent.hit.eq(1))
+                .fetch());
+    }
+}
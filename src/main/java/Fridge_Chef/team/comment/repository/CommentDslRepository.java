@@ -0,0 +1,100 @@
+package Fridge_Chef.team.comment.repository;
+
+import Fridge_Chef.team.comment.domain.Comment;
+import Fridge_Chef.team.comment.rest.response.CommentLikeStateResponse;
+import Fridge_Chef.team.user.domain.UserId;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static Fridge_Chef.team.comment.domain.QComment.comment;
+
+@Repository
+@RequiredArgsConstructor
+public class CommentDslRepository {
+    private final JPAQueryFactory factory;
+    private final CommentAssociationLoader commentAssociationLoader;
+
+    /**
+     * 내 댓글 한 건, 게시글당 유저 댓글은 하나
+     */
+    public Optional<Comment> findMyComment(Long boardId, UserId userId) {
+        return Optional.ofNullable(factory.selectFrom(comment)
+                .where(comment.board.id.eq(boardId),
+                        comment.users.userId.value.eq(userId.getValue()))
+                .orderBy(comment.id.asc())
+                .fetchFirst());
+    }
+
+    /**
+     * 작성자, 이미지는 CommentAssociationLoader 로 한번에 조회하므로 댓글만 DB 페이지 단위로 조회
+     */
+    public List<Comment> findPageByBoard(Long boardId, Optional<Long> excludeId, long offset, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        return factory.selectFrom(comment)
+                .where(comment.board.id.eq(boardId),
+                        excludeId.map(comment.id::ne).orElse(null))
+                .orderBy(comment.id.asc())
+                .offset(offset)
+                .limit(limit)
+                .fetch();
+    }
+
+    public long countByBoard(Long boardId) {
+        Long count = factory.select(comment.count())
+                .from(comment)
+                .where(comment.board.id.eq(boardId))
+                .fetchOne();
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * 좋아요 수를 읽지 않고 DB 에서 total_hit = total_hit + delta 로 갱신, 0 아래로는 내려가지 않는다.
+     */
+    public long addHit(Long commentId, int delta) {
+        return factory.update(comment)
+                .set(comment.totalHit, comment.totalHit.add(delta))
+                .where(comment.id.eq(commentId),
+                        delta < 0 ? comment.totalHit.gt(0) : null)
+                .execute();
+    }
+
+    public int findTotalHit(Long commentId) {
+        Integer totalHit = factory.select(comment.totalHit)
+                .from(comment)
+                .where(comment.id.eq(commentId))
+                .fetchOne();
+        return totalHit == null ? 0 : totalHit;
+    }
+
+    /**
+     * 댓글 id 목록의 좋아요 수, 내 좋아요 여부를 쿼리 2번으로 조회
+     */
+    public List<CommentLikeStateResponse> findLikeStates(Long boardId, List<Long> commentIds, Optional<UserId> userId) {
+        if (commentIds.isEmpty()) {
+            return List.of();
+        }
+        List<Tuple> rows = factory.select(comment.id, comment.totalHit)
+                .from(comment)
+                .where(comment.board.id.eq(boardId),
+                        comment.id.in(commentIds))
+                .fetch();
+
+        Set<Long> liked = userId.map(id -> commentAssociationLoader.findLikedCommentIds(commentIds, id))
+                .orElseGet(Set::of);
+
+        return rows.stream()
+                .map(row -> new CommentLikeStateResponse(
+                        row.get(comment.id),
+                        row.get(comment.totalHit),
+                        liked.contains(row.get(comment.id))))
+                .toList();
+    }
+}
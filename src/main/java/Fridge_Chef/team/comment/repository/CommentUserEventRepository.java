@@ -2,10 +2,13 @@ package Fridge_Chef.team.comment.repository;
 
 import Fridge_Chef.team.comment.domain.CommentUserEvent;
 import Fridge_Chef.team.user.domain.UserId;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 
 import java.util.Optional;
 
 public interface CommentUserEventRepository extends JpaRepository<CommentUserEvent, Long> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
     Optional<CommentUserEvent> findByBoardIdAndCommentsIdAndUserUserId(Long boardId, Long commentId, UserId userId);
 }
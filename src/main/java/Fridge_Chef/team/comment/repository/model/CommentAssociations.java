@@ -0,0 +1,23 @@
+package Fridge_Chef.team.comment.repository.model;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 댓글 페이지의 연관 데이터, 댓글 id 기준
+ */
+public record CommentAssociations(Map<Long, String> userNames, Map<Long, List<String>> imageLinks, Set<Long> liked) {
+
+    public String userName(Long commentId) {
+        return userNames.get(commentId);
+    }
+
+    public List<String> imageLinks(Long commentId) {
+        return imageLinks.getOrDefault(commentId, List.of());
+    }
+
+    public boolean isLiked(Long commentId) {
+        return liked.contains(commentId);
+    }
+}
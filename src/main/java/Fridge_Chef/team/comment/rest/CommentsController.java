@@ -2,6 +2,7 @@ package Fridge_Chef.team.comment.rest;
 
 import Fridge_Chef.team.comment.rest.request.CommentUpdateRequest;
 import Fridge_Chef.team.comment.rest.response.CommentLikeResponse;
+import Fridge_Chef.team.comment.rest.response.CommentLikeStateResponse;
 import Fridge_Chef.team.comment.rest.response.CommentResponse;
 import Fridge_Chef.team.comment.service.CommentService;
 import Fridge_Chef.team.user.rest.model.AuthenticatedUser;
@@ -11,6 +12,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.Optional;
 
 @RestController
@@ -29,6 +31,14 @@ public class CommentsController {
         return commentService.getCommentsByBoards(boardId, page, size,AuthenticatedUser.anonymousUser(user));
     }
 
+    @GetMapping("/likes")
+    public List<CommentLikeStateResponse> getLikeStates(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @PathVariable("board_id") Long boardId,
+            @RequestParam("ids") List<Long> commentIds) {
+        return commentService.getLikeStates(boardId, commentIds, AuthenticatedUser.anonymousUser(user));
+    }
+
     @GetMapping("/{comment_id}")
     public CommentResponse getComments(
             @AuthenticationPrincipal AuthenticatedUser user,
@@ -0,0 +1,4 @@
+package Fridge_Chef.team.comment.rest.response;
+
+public record CommentLikeStateResponse(Long id, int like, boolean myHit) {
+}
@@ -1,15 +1,13 @@
 package Fridge_Chef.team.comment.rest.response;
 
 import Fridge_Chef.team.comment.domain.Comment;
-import Fridge_Chef.team.comment.domain.CommentUserEvent;
-import Fridge_Chef.team.user.domain.UserId;
+import Fridge_Chef.team.comment.repository.model.CommentAssociations;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
 
 @Getter
@@ -28,28 +26,23 @@ public class CommentResponse {
     private Long boardId;
     private LocalDateTime createdAt;
 
-    public static CommentResponse fromEntity(Comment comment, Optional<UserId> optional) {
-        boolean myHit = false;
-        if(optional.isPresent()){
-            int hit =comment.getCommentUserEvent().stream()
-                    .filter(v -> v.getUser().getId().equals(optional.get().getValue()))
-                    .findFirst()
-                    .map(CommentUserEvent::getHit)
-                    .orElse(0);
-            if(hit == 1){
-                myHit=true;
-            }
-        }
+    public static CommentResponse of(Comment comment, CommentAssociations associations) {
         return new CommentResponse(
                 comment.getId(),
                 comment.getComments(),
                 comment.getStar(),
                 comment.getTotalHit(),
-                myHit,
-                comment.getUsers().getUsername(),
-                comment.getImageLinks(),
+                associations.isLiked(comment.getId()),
+                associations.userName(comment.getId()),
+                associations.imageLinks(comment.getId()),
                 comment.getBoard().getId(),
                 comment.getCreateTime()
         );
     }
+
+    public static List<CommentResponse> of(List<Comment> comments, CommentAssociations associations) {
+        return comments.stream()
+                .map(comment -> of(comment, associations))
+                .toList();
+    }
 }
@@ -1,13 +1,17 @@
 package Fridge_Chef.team.comment.service;
 
 import Fridge_Chef.team.board.domain.Board;
+import Fridge_Chef.team.board.repository.BoardDslRepository;
 import Fridge_Chef.team.board.repository.BoardRepository;
 import Fridge_Chef.team.comment.domain.Comment;
 import Fridge_Chef.team.comment.domain.CommentUserEvent;
+import Fridge_Chef.team.comment.repository.CommentAssociationLoader;
+import Fridge_Chef.team.comment.repository.CommentDslRepository;
 import Fridge_Chef.team.comment.repository.CommentRepository;
 import Fridge_Chef.team.comment.repository.CommentUserEventRepository;
 import Fridge_Chef.team.comment.rest.request.CommentCreateRequest;
 import Fridge_Chef.team.comment.rest.request.CommentUpdateRequest;
+import Fridge_Chef.team.comment.rest.response.CommentLikeStateResponse;
 import Fridge_Chef.team.comment.rest.response.CommentResponse;
 import Fridge_Chef.team.exception.ApiException;
 import Fridge_Chef.team.exception.ErrorCode;
@@ -17,11 +21,13 @@ import Fridge_Chef.team.image.service.ImageService;
 import Fridge_Chef.team.user.domain.User;
 import Fridge_Chef.team.user.domain.UserId;
 import Fridge_Chef.team.user.repository.UserRepository;
+import Fridge_Chef.team.user.service.UserMyPageCountCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -38,9 +44,14 @@ public class CommentService {
     private final ImageRepository imageRepository;
     private final CommentRepository commentRepository;
     private final CommentUserEventRepository commentUserEventRepository;
+    private final CommentUserEventWriter commentUserEventWriter;
+    private final CommentDslRepository commentDslRepository;
+    private final CommentAssociationLoader commentAssociationLoader;
     private final BoardRepository boardRepository;
+    private final BoardDslRepository boardDslRepository;
     private final UserRepository userRepository;
     private final ImageService imageService;
+    private final UserMyPageCountCache userMyPageCountCache;
 
 
     @Transactional
@@ -51,21 +62,21 @@ public class CommentService {
         User user = findByUser(userId);
         List<Image> images = request.images() != null ? imageService.imageUploads(userId, request.images()) : new ArrayList<>();
 
-        Optional<Comment> existingComment = board.getComments()
-                .stream()
-                .filter(comment -> comment.getUsers().getUserId().equals(userId))
-                .findFirst();
+        Optional<Comment> existingComment = commentDslRepository.findMyComment(boardId, userId);
 
         if (existingComment.isPresent()) {
             Comment commentToUpdate = existingComment.get();
+            double beforeStar = commentToUpdate.getStar();
             commentToUpdate.updateImage(images);
             commentToUpdate.updateComment(request.comment());
             commentToUpdate.updateStar(request.star());
+            boardDslRepository.addStar(boardId, request.star() - beforeStar, 0);
             return commentRepository.save(commentToUpdate);
         }
 
         Comment newComment = new Comment(board, user, images, request.comment(), request.star());
-        board.updateStar(calculateNewTotalStar(board, request.star()));
+        boardDslRepository.addStar(boardId, request.star(), 1);
+        userMyPageCountCache.invalidate(userId);
         return commentRepository.save(newComment);
 
     }
@@ -79,8 +90,10 @@ public class CommentService {
         validCommentAuthor(comment, boardId);
         validCommentUserAuthor(comment, userId);
 
+        double beforeStar = comment.getStar();
         comment.updateStar(request.star());
         comment.updateComment(request.comment());
+        boardDslRepository.addStar(boardId, request.star() - beforeStar, 0);
 
         if(!request.isImage()){
             return comment;
@@ -97,8 +110,7 @@ public class CommentService {
             return comment;
         }
 
-        List<Image> images = new ArrayList<>();
-        request.images().forEach(image -> images.add(imageService.imageUpload(userId, image)));
+        List<Image> images = new ArrayList<>(imageService.imageUploadAll(userId, request.images()));
         comment.updateComments(images);
         log.info("댓글 수정 성공     user: "+userId);
         return commentRepository.save(comment);
@@ -108,38 +120,44 @@ public class CommentService {
     public void deleteComment(Long boardId, Long commentId, UserId userId) {
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new ApiException(ErrorCode.COMMENT_NOT_FOUND));
-        Board board = comment.getBoard();
-
         validCommentAuthor(comment, boardId);
         validCommentUserAuthor(comment, userId);
 
-        board.updateStar(calculateNewTotalStar(board, -comment.getStar()));
+        boardDslRepository.addStar(boardId, -comment.getStar(), -1);
         commentRepository.delete(comment);
+        userMyPageCountCache.invalidate(userId);
         log.info("댓글 삭제 성공 - board id :" + boardId +" , comment id :"+commentId +" , user id :"+userId);
     }
 
 
+    /**
+     * 내 댓글은 인덱스로 한 건 조회해서 첫 페이지 맨 앞에 고정, 나머지는 DB 에서 페이지 단위로 조회
+     */
     @Transactional(readOnly = true)
     public Page<CommentResponse> getCommentsByBoards(Long boardId, int page, int size, Optional<UserId> user) {
-        Board board = boardRepository.findById(boardId)
-                .orElseThrow(() -> new ApiException(ErrorCode.BOARD_NOT_FOUND));
+        if (size > 50) {
+            throw new ApiException(ErrorCode.VALID_SIZE_50);
+        }
+        if (!boardRepository.existsById(boardId)) {
+            throw new ApiException(ErrorCode.BOARD_NOT_FOUND);
+        }
 
         PageRequest pageable = PageRequest.of(page, size);
-        List<Comment> comments = commentRepository.findAllByBoard(board);
+        Optional<Comment> myComment = user.flatMap(userId -> commentDslRepository.findMyComment(boardId, userId));
+        int pinned = myComment.isPresent() ? 1 : 0;
 
-        user.flatMap(userId -> comments.stream()
-                        .filter(comment -> comment.getUsers().getUserId().equals(userId))
-                        .findFirst())
-                .ifPresent(userComment -> {
-                    comments.remove(userComment);
-                    comments.add(0, userComment);
-                });
+        List<Comment> comments = new ArrayList<>();
+        if (page == 0) {
+            myComment.ifPresent(comments::add);
+        }
+        comments.addAll(commentDslRepository.findPageByBoard(boardId,
+                myComment.map(Comment::getId),
+                Math.max(pageable.getOffset() - pinned, 0),
+                page == 0 ? size - pinned : size));
 
-        List<CommentResponse> responses = comments.stream()
-                .map(entity -> CommentResponse.fromEntity(entity, user))
-                .toList();
+        List<CommentResponse> responses = CommentResponse.of(comments, commentAssociationLoader.load(comments, user));
 
-        return new PageImpl<>(responses, pageable, responses.size());
+        return PageableExecutionUtils.getPage(responses, pageable, () -> commentDslRepository.countByBoard(boardId));
     }
 
     @Transactional(readOnly = true)
@@ -148,53 +166,40 @@ public class CommentService {
                 .orElseThrow(() -> new ApiException(ErrorCode.BOARD_NOT_FOUND));
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new ApiException(ErrorCode.COMMENT_NOT_FOUND));
-        return CommentResponse.fromEntity(comment, user);
+        return CommentResponse.of(comment, commentAssociationLoader.load(List.of(comment), user));
     }
 
+    /**
+     * (댓글, 유저) 이벤트 한 건만 잠금 조회 후 토글, 댓글 좋아요 수는 재집계 없이 +-1
+     */
     @Transactional
     public int updateHit(Long boardId, Long commentId, UserId userId) {
-        Board board = findByBoard(boardId);
-        Comment comment = findComment(commentId);
-
-        Optional<CommentUserEvent> event = commentUserEventRepository.findByBoardIdAndCommentsIdAndUserUserId(boardId, commentId, userId);
-        event.ifPresent(CommentUserEvent::updateHit);
-
-        if (event.isEmpty()) {
-            var userEvent = new CommentUserEvent(board, comment, findByUser(userId));
-            userEvent.updateHit();
-
-            var commentUserEvent = commentUserEventRepository.save(userEvent);
-            comment.addUserEvent(commentUserEvent);
-            comment.updateHit(filterTotalHit((commentUserEvent.getComments())));
-            log.info("댓글 처음 좋아요 " + commentId + " , 카운트 " + commentUserEvent.getHit());
-        } else {
-            comment.updateHit(filterTotalHit(event.get().getComments()));
-            log.info("댓글 좋아요 " + commentId + " ,카운트 " + event.get().getHit());
-        }
-
-        return comment.getTotalHit();
-    }
-
-    private int filterTotalHit(Comment comment) {
-        return comment.getCommentUserEvent()
-                .stream()
-                .filter(CommentUserEvent::isHitOn)
-                .toList()
-                .size();
+        CommentUserEvent event = commentUserEventRepository.findByBoardIdAndCommentsIdAndUserUserId(boardId, commentId, userId)
+                .orElseGet(() -> createUserEvent(boardId, commentId, userId));
+        event.updateHit();
+
+        commentDslRepository.addHit(commentId, event.isHitOn() ? 1 : -1);
+        int totalHit = commentDslRepository.findTotalHit(commentId);
+        log.info("댓글 좋아요 " + commentId + " ,카운트 " + event.getHit() + ", 총합 " + totalHit);
+        return totalHit;
     }
 
-    private Comment findComment(Long commentId) {
-        return commentRepository.findById(commentId)
-                .orElseThrow(() -> new ApiException(ErrorCode.COMMENT_NOT_FOUND));
+    @Transactional(readOnly = true)
+    public List<CommentLikeStateResponse> getLikeStates(Long boardId, List<Long> commentIds, Optional<UserId> user) {
+        if (commentIds.size() > 50) {
+            throw new ApiException(ErrorCode.VALID_SIZE_50);
+        }
+        return commentDslRepository.findLikeStates(boardId, commentIds.stream().distinct().toList(), user);
     }
 
-    private double calculateNewTotalStar(Board board, double newStar) {
-        List<Comment> comments = commentRepository.findAllByBoard(board);
-        if (comments.size() == 0) {
-            return newStar;
+    private CommentUserEvent createUserEvent(Long boardId, Long commentId, UserId userId) {
+        try {
+            commentUserEventWriter.create(boardId, commentId, userId);
+        } catch (DataIntegrityViolationException e) {
+            log.info("댓글 좋아요 이벤트 동시 생성, 다시 조회 : " + commentId);
         }
-        double totalStar = comments.stream().mapToDouble(Comment::getStar).sum();
-        return (totalStar + newStar) / (comments.size() + 1);
+        return commentUserEventRepository.findByBoardIdAndCommentsIdAndUserUserId(boardId, commentId, userId)
+                .orElseThrow(() -> new ApiException(ErrorCode.COMMENT_NOT_FOUND));
     }
 
     private Board findByBoard(Long id) {
@@ -0,0 +1,39 @@
+package Fridge_Chef.team.comment.service;
+
+import Fridge_Chef.team.comment.domain.Comment;
+import Fridge_Chef.team.comment.domain.CommentUserEvent;
+import Fridge_Chef.team.comment.repository.CommentRepository;
+import Fridge_Chef.team.comment.repository.CommentUserEventRepository;
+import Fridge_Chef.team.exception.ApiException;
+import Fridge_Chef.team.exception.ErrorCode;
+import Fridge_Chef.team.user.domain.User;
+import Fridge_Chef.team.user.domain.UserId;
+import Fridge_Chef.team.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class CommentUserEventWriter {
+    private final CommentRepository commentRepository;
+    private final UserRepository userRepository;
+    private final CommentUserEventRepository commentUserEventRepository;
+
+    /**
+     * 별도 트랜잭션으로 insert, 같은 (댓글, 유저) 첫 좋아요가 동시에 들어오면 늦은 쪽은 uk_comment_user_event 위반
+     * 호출한 트랜잭션은 롤백 표시되지 않으므로 다시 조회해서 이어갈 수 있다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void create(Long boardId, Long commentId, UserId userId) {
+        Comment comment = commentRepository.findById(commentId)
+                .orElseThrow(() -> new ApiException(ErrorCode.COMMENT_NOT_FOUND));
+        if (!comment.getBoard().getId().equals(boardId)) {
+            throw new ApiException(ErrorCode.COMMENT_NOT_BOARD);
+        }
+        User user = userRepository.findByUserId_Value(userId.getValue())
+                .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND));
+        commentUserEventRepository.saveAndFlush(new CommentUserEvent(comment.getBoard(), comment, user));
+    }
+}
@@ -0,0 +1,138 @@
+package Fridge_Chef.team.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키로 동시에 miss 가 나면 한 요청만 DB 에서 로드하고 나머지는 그 결과를 기다린다. (single flight)
+ * refreshAfter 가 지난 값은 한 요청만 다시 로드하고, 로드 중에 들어온 요청은 이전 값을 그대로 응답
+ * 로드 중 무효화되면 로드한 값은 응답만 하고 캐시에 넣지 않는다.
+ * 로드/합류/이전값 응답 수는 /actuator/metrics/cache.single.flight?tag=cache:{name}
+ */
+@Slf4j
+public class SingleFlightCache<K, V> {
+    private final String name;
+    private final Cache<K, Entry<V>> cache;
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final long refreshAfterMillis;
+    private final Counter loads;
+    private final Counter coalesced;
+    private final Counter staleServed;
+
+    public SingleFlightCache(MeterRegistry meterRegistry, String name, long maximumSize, Duration ttl, Duration refreshAfter) {
+        this.name = name;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.refreshAfterMillis = refreshAfter.toMillis();
+        this.loads = counter(meterRegistry, name, "load");
+        this.coalesced = counter(meterRegistry, name, "coalesced");
+        this.staleServed = counter(meterRegistry, name, "stale");
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+    }
+
+    public V get(K key, Supplier<V> loader) {
+        Entry<V> entry = cache.getIfPresent(key);
+        if (entry == null) {
+            return load(key, loader);
+        }
+        if (entry.isOlderThan(refreshAfterMillis)) {
+            return refresh(key, loader).orElse(entry.value());
+        }
+        return entry.value();
+    }
+
+    public void invalidate(K key) {
+        inFlight.remove(key);
+        cache.invalidate(key);
+    }
+
+    public void invalidateAll() {
+        inFlight.clear();
+        cache.invalidateAll();
+    }
+
+    private V load(K key, Supplier<V> loader) {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, future);
+        if (running != null) {
+            coalesced.increment();
+            return await(running);
+        }
+        return loadAndPut(key, loader, future);
+    }
+
+    /**
+     * 이미 다시 로드 중이거나 로드에 실패하면 비어있음, 기다리지 않고 이전 값을 응답
+     */
+    private Optional<V> refresh(K key, Supplier<V> loader) {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(key, future) != null) {
+            staleServed.increment();
+            return Optional.empty();
+        }
+        try {
+            return Optional.ofNullable(loadAndPut(key, loader, future));
+        } catch (RuntimeException e) {
+            staleServed.increment();
+            log.warn(name + " 캐시 갱신 실패, 이전 값 응답 : " + key, e);
+            return Optional.empty();
+        }
+    }
+
+    private V loadAndPut(K key, Supplier<V> loader, CompletableFuture<V> future) {
+        loads.increment();
+        try {
+            V value = loader.get();
+            if (inFlight.get(key) == future) {
+                cache.put(key, new Entry<>(value, System.currentTimeMillis()));
+            }
+            future.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    private V await(CompletableFuture<V> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String name, String result) {
+        return Counter.builder("cache.single.flight")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record Entry<V>(V value, long loadedAt) {
+
+        boolean isOlderThan(long millis) {
+            return System.currentTimeMillis() - loadedAt >= millis;
+        }
+    }
+}
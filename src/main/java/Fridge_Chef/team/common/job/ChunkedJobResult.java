@@ -0,0 +1,4 @@
+package Fridge_Chef.team.common.job;
+
+public record ChunkedJobResult(String jobName, long processed, int chunks, long elapsedMillis) {
+}
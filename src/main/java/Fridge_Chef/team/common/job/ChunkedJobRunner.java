@@ -0,0 +1,70 @@
+package Fridge_Chef.team.common.job;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+/**
+ * 스케줄 작업용 청크 실행기
+ * id 키셋(after 보다 큰 id 를 chunkSize 만큼, id 오름차순)으로 조회해서 청크마다 짧은 트랜잭션으로 처리하고
+ * 청크 사이에 영속성 컨텍스트를 flush/clear 해서 힙과 락 유지 시간을 청크 크기로 제한한다.
+ */
+@Slf4j
+@Component
+public class ChunkedJobRunner {
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+
+    public ChunkedJobRunner(PlatformTransactionManager transactionManager, EntityManager entityManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * @param nextIds   (after, chunkSize) -> after 다음 id 목록, 첫 청크의 after 는 null
+     * @param chunkTask 청크 처리, 청크 트랜잭션 안에서 실행
+     */
+    public <K> ChunkedJobResult run(String jobName, int chunkSize, BiFunction<K, Integer, List<K>> nextIds, Consumer<List<K>> chunkTask) {
+        long start = System.currentTimeMillis();
+        long processed = 0;
+        int chunks = 0;
+        K after = null;
+
+        while (true) {
+            long chunkStart = System.currentTimeMillis();
+            K cursor = after;
+            List<K> ids = transactionTemplate.execute(status -> {
+                List<K> chunk = nextIds.apply(cursor, chunkSize);
+                if (!chunk.isEmpty()) {
+                    chunkTask.accept(chunk);
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+                return chunk;
+            });
+
+            if (ids == null || ids.isEmpty()) {
+                break;
+            }
+            chunks++;
+            processed += ids.size();
+            after = ids.get(ids.size() - 1);
+            log.info("[" + jobName + "] 청크 " + chunks + " : " + ids.size() + "건, 누적 " + processed + "건, "
+                    + (System.currentTimeMillis() - chunkStart) + "ms");
+
+            if (ids.size() < chunkSize) {
+                break;
+            }
+        }
+
+        ChunkedJobResult result = new ChunkedJobResult(jobName, processed, chunks, System.currentTimeMillis() - start);
+        log.info("[" + jobName + "] 완료 : " + result.processed() + "건, 청크 " + result.chunks() + ", " + result.elapsedMillis() + "ms");
+        return result;
+    }
+}
@@ -0,0 +1,69 @@
+package Fridge_Chef.team.common.migration;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * ddl-auto(update) 로 처리할 수 없는 기존 데이터 정리/이관 단계
+ * SchemaMigrationRunner 가 version 순으로 한번씩 실행하고 schema_migration 에 기록한다.
+ * Oracle 과 H2(Oracle 모드) 에서 모두 동작하는 SQL 만 사용
+ */
+public interface SchemaMigration {
+
+    int version();
+
+    String description();
+
+    void migrate(JdbcTemplate jdbcTemplate);
+
+    /**
+     * drop/alter 같은 DDL 은 Oracle 에서 암묵적으로 커밋되어 기록과 한 트랜잭션으로 묶이지 않는다.
+     * DDL 이 있는 단계는 false, 트랜잭션 없이 실행하고 끝까지 성공한 뒤에 기록하므로 다시 실행해도 같은 결과여야 한다.
+     */
+    default boolean transactional() {
+        return true;
+    }
+
+    static boolean tableExists(JdbcTemplate jdbcTemplate, String table) {
+        Boolean exists = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            try (ResultSet tables = metaData.getTables(connection.getCatalog(), connection.getSchema(), table.toUpperCase(), new String[]{"TABLE"})) {
+                return tables.next();
+            }
+        });
+        return Boolean.TRUE.equals(exists);
+    }
+
+    /**
+     * 컬럼 구성이 같은 unique 인덱스가 있는지, 제약 이름은 DB 마다 인덱스 이름과 다를 수 있어서 컬럼으로 비교
+     */
+    static boolean uniqueKeyExists(JdbcTemplate jdbcTemplate, String table, String... columns) {
+        Set<String> expected = Arrays.stream(columns)
+                .map(String::toUpperCase)
+                .collect(Collectors.toSet());
+        Boolean exists = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            Map<String, Set<String>> indexColumns = new HashMap<>();
+            try (ResultSet indexes = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(), table.toUpperCase(), true, true)) {
+                while (indexes.next()) {
+                    String index = indexes.getString("INDEX_NAME");
+                    String column = indexes.getString("COLUMN_NAME");
+                    if (index != null && column != null) {
+                        indexColumns.computeIfAbsent(index, key -> new HashSet<>()).add(column.toUpperCase());
+                    }
+                }
+            }
+            return indexColumns.containsValue(expected);
+        });
+        return Boolean.TRUE.equals(exists);
+    }
+}
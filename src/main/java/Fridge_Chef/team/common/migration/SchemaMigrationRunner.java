@@ -0,0 +1,88 @@
+package Fridge_Chef.team.common.migration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 기존 데이터 이관 실행기
+ * 모든 빈 생성 후(hibernate 스키마 update 이후), 웹 서버와 스케줄 작업 시작 전에 실행된다.
+ * 단계마다 한 트랜잭션에서 schema_migration 기록 + 이관, 여러 인스턴스가 동시에 떠도 기록 PK 로 한 곳만 적용
+ * DDL 이 있는 단계(transactional=false)는 먼저 실행하고 성공하면 기록, 실패하면 기록이 없어 다음 기동에 다시 실행
+ * 실패하면 기동을 중단한다.
+ */
+@Slf4j
+@Component
+public class SchemaMigrationRunner implements SmartInitializingSingleton {
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final List<SchemaMigration> migrations;
+
+    public SchemaMigrationRunner(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager, List<SchemaMigration> migrations) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.migrations = migrations;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        createHistoryTable();
+        migrations.stream()
+                .sorted(Comparator.comparingInt(SchemaMigration::version))
+                .forEach(this::migrate);
+    }
+
+    private void migrate(SchemaMigration migration) {
+        if (isApplied(migration.version())) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        try {
+            if (migration.transactional()) {
+                transactionTemplate.executeWithoutResult(status -> {
+                    record(migration, start);
+                    migration.migrate(jdbcTemplate);
+                });
+            } else {
+                migration.migrate(jdbcTemplate);
+                record(migration, start);
+            }
+        } catch (DuplicateKeyException e) {
+            log.info("[migration " + migration.version() + "] 다른 인스턴스에서 적용중 : " + migration.description());
+            return;
+        }
+        log.info("[migration " + migration.version() + "] 완료 : " + migration.description() + ", "
+                + (System.currentTimeMillis() - start) + "ms");
+    }
+
+    private void record(SchemaMigration migration, long start) {
+        jdbcTemplate.update("insert into schema_migration (version, description, applied_time) values (?, ?, ?)",
+                migration.version(), migration.description(), new Timestamp(start));
+    }
+
+    private boolean isApplied(int version) {
+        Integer count = jdbcTemplate.queryForObject("select count(*) from schema_migration where version = ?", Integer.class, version);
+        return count != null && count > 0;
+    }
+
+    private void createHistoryTable() {
+        if (SchemaMigration.tableExists(jdbcTemplate, "schema_migration")) {
+            return;
+        }
+        try {
+            jdbcTemplate.execute("create table schema_migration (version number(10) not null primary key, description varchar2(200), applied_time timestamp)");
+        } catch (RuntimeException e) {
+            if (!SchemaMigration.tableExists(jdbcTemplate, "schema_migration")) {
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package Fridge_Chef.team.common.page;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record CursorPage<T>(List<T> content, int size, boolean hasNext, String nextCursor) {
+
+    /**
+     * size + 1 건 조회 결과로 다음 페이지 여부와 다음 커서를 만든다.
+     */
+    public static <E, T> CursorPage<T> of(List<E> fetched, int size, Function<E, PageCursor> cursorOf, Function<List<E>, List<T>> mapper) {
+        boolean hasNext = size > 0 && fetched.size() > size;
+        List<E> rows = hasNext ? fetched.subList(0, size) : fetched;
+        String nextCursor = hasNext ? cursorOf.apply(rows.get(rows.size() - 1)).encode() : null;
+        return new CursorPage<>(mapper.apply(rows), size, hasNext, nextCursor);
+    }
+}
@@ -0,0 +1,67 @@
+package Fridge_Chef.team.common.page;
+
+import Fridge_Chef.team.exception.ApiException;
+import Fridge_Chef.team.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지 커서, 마지막 행의 (정렬 기준값, id) 를 불투명 토큰으로 인코딩
+ * 정렬 기준이 바뀐 커서는 사용할 수 없다.
+ */
+public record PageCursor(String sortType, String sortKey, long id) {
+    private static final String DELIMITER = "|";
+
+    public static PageCursor of(Enum<?> sortType, Object sortKey, long id) {
+        return new PageCursor(sortType.name(), String.valueOf(sortKey), id);
+    }
+
+    public static PageCursor decode(String token, Enum<?> sortType) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int first = raw.indexOf(DELIMITER);
+            int last = raw.lastIndexOf(DELIMITER);
+            if (first < 0 || first == last) {
+                throw new ApiException(ErrorCode.INVALID_CURSOR);
+            }
+            PageCursor cursor = new PageCursor(raw.substring(0, first), raw.substring(first + 1, last), Long.parseLong(raw.substring(last + 1)));
+            if (!cursor.sortType().equals(sortType.name())) {
+                throw new ApiException(ErrorCode.INVALID_CURSOR);
+            }
+            return cursor;
+        } catch (IllegalArgumentException e) {
+            throw new ApiException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String raw = sortType + DELIMITER + sortKey + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public int intKey() {
+        try {
+            return Integer.parseInt(sortKey);
+        } catch (NumberFormatException e) {
+            throw new ApiException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public double doubleKey() {
+        try {
+            return Double.parseDouble(sortKey);
+        } catch (NumberFormatException e) {
+            throw new ApiException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public LocalDateTime timeKey() {
+        try {
+            return LocalDateTime.parse(sortKey);
+        } catch (RuntimeException e) {
+            throw new ApiException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -71,6 +71,8 @@ public class SecurityDevConfig {
         userMatchers(registry);
         registry.requestMatchers("/", "/static/**", "/docs.html", "/favicon.ico","/actuator/health")
                 .permitAll()
+                .requestMatchers("/actuator/**")
+                .hasAuthority(Role.ADMIN.getAuthority())
 //                .requestMatchers(PathRequest.toH2Console()).permitAll()
                 .anyRequest().authenticated();
     }
@@ -68,6 +68,8 @@ public class SecurityConfig {
         userMatchers(registry);
         registry.requestMatchers("/", "/static/**", "/docs.html", "/favicon.ico","/actuator/health")
                 .permitAll()
+                .requestMatchers("/actuator/**")
+                .hasAuthority(Role.ADMIN.getAuthority())
                 .anyRequest().authenticated();
     }
 
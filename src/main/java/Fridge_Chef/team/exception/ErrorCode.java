@@ -30,6 +30,7 @@ public enum ErrorCode {
     IMAGE_CONTENT_TYPE_FAIL(456, "지원하지 않는 이미지 타입(허용타입: png,jpeg,jpg"),
     IMAGE_FILE_DELETE_FAIL(457, "이미지 삭제 실패"),
     IMAGE_REMOVE_NOT_USER(458, "이미지 제거 유저 불일치"),
+    IMAGE_PIXEL_LIMIT(459, "이미지 해상도가 너무 큽니다."),
 
     //email
     EMAIL_SEND_PARSE(405, "메시지 구문 분석에 실패"),
@@ -70,7 +71,11 @@ public enum ErrorCode {
     COMMENT_NOT_BOARD(407, "댓글의 게시글이 아님"),
     TEXT_FILTER(490,"비속어 검출" ),
     VALID_SIZE_50(400, "페이지 사이즈는 50을 초과할 수 없습니다."),
-    RECIPE_INGREDIENT_NULL(405,"한개 이상 재료가 필요합니다." );
+    VALID_SIZE_MIN(400, "페이지 사이즈는 1 이상이어야 합니다."),
+    RECIPE_INGREDIENT_NULL(405,"한개 이상 재료가 필요합니다." ),
+
+    //page
+    INVALID_CURSOR(400, "잘못된 페이지 커서");
 
     private final int status;
     private final String message;
@@ -6,7 +6,10 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static lombok.AccessLevel.PROTECTED;
 
@@ -26,6 +29,11 @@ public class Image extends BaseEntity {
     private ImageType type;
     @Column(name = "user_id")
     private UUID userId;
+    private String fullName;
+    private String cardName;
+    private String thumbnailName;
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
 
 
     public Image(String uri, String path, String name, ImageType type, UserId userId) {
@@ -79,6 +87,60 @@ public class Image extends BaseEntity {
         this.name = parts[parts.length - 1];
     }
 
+    public void updateVariant(ImageVariant variant, String objectName) {
+        switch (variant) {
+            case FULL -> this.fullName = objectName;
+            case CARD -> this.cardName = objectName;
+            case THUMBNAIL -> this.thumbnailName = objectName;
+        }
+    }
+
+    public void updateContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
+    /**
+     * 같은 내용으로 이미 올라간 오브젝트를 가리킨다.
+     */
+    public void linkBlob(ImageBlob blob) {
+        this.contentHash = blob.getContentHash();
+        this.name = blob.getObjectName();
+        this.fullName = blob.getFullName();
+        this.cardName = blob.getCardName();
+        this.thumbnailName = blob.getThumbnailName();
+    }
+
+    /**
+     * 원본 + 만들어진 변형 오브젝트 이름
+     */
+    public List<String> getObjectNames() {
+        return Stream.of(name, fullName, cardName, thumbnailName)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    public String getFullLink() {
+        return variantLink(fullName);
+    }
+
+    public String getCardLink() {
+        return variantLink(cardName);
+    }
+
+    public String getThumbnailLink() {
+        return variantLink(thumbnailName);
+    }
+
+    /**
+     * 변형이 없으면 (원본이 이미 작거나 외부 링크) 원본 링크
+     */
+    private String variantLink(String variantName) {
+        if (variantName == null || type != ImageType.ORACLE_CLOUD) {
+            return getLink();
+        }
+        return uri + path + variantName;
+    }
+
     public String getLink() {
         if(type == null || type.name().equals(ImageType.NONE.name())){
             return "";
@@ -0,0 +1,69 @@
+package Fridge_Chef.team.image.domain;
+
+import Fridge_Chef.team.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import static lombok.AccessLevel.PROTECTED;
+
+/**
+ * 내용(sha-256) 기준으로 한 번만 올린 오브젝트와 이를 가리키는 Image 수
+ * 참조 수가 0 이 되면 행을 지우고 오브젝트는 삭제 대기열로 보낸다.
+ */
+@Entity
+@Getter
+@Table(name = "image_blob",
+        uniqueConstraints = @UniqueConstraint(name = "uk_image_blob_hash", columnNames = "content_hash"))
+@NoArgsConstructor(access = PROTECTED)
+public class ImageBlob extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+    @Column(name = "object_name", nullable = false)
+    private String objectName;
+    private String fullName;
+    private String cardName;
+    private String thumbnailName;
+    private int refCount;
+
+    public ImageBlob(String contentHash, String objectName) {
+        this.contentHash = contentHash;
+        this.objectName = objectName;
+        this.refCount = 0;
+    }
+
+    /**
+     * 업로드를 마친 Image 에서 만들어진 변형 이름을 가져온다.
+     */
+    public void updateVariants(Image uploaded) {
+        this.fullName = uploaded.getFullName();
+        this.cardName = uploaded.getCardName();
+        this.thumbnailName = uploaded.getThumbnailName();
+    }
+
+    public void increase() {
+        this.refCount++;
+    }
+
+    /**
+     * @return 마지막 참조였으면 true
+     */
+    public boolean decrease() {
+        this.refCount = Math.max(0, refCount - 1);
+        return refCount == 0;
+    }
+
+    public List<String> getObjectNames() {
+        return Stream.of(objectName, fullName, cardName, thumbnailName)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
@@ -0,0 +1,65 @@
+package Fridge_Chef.team.image.domain;
+
+import Fridge_Chef.team.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static lombok.AccessLevel.PROTECTED;
+
+/**
+ * 오브젝트 스토리지 삭제 대기열 (outbox), 이미지 삭제와 같은 트랜잭션에서 오브젝트 이름당 한 행 저장
+ * ImageDeleteJob 이 next_attempt_time 이 지난 행부터 삭제, 실패하면 attempts 에 따라 늦춰서 재시도
+ */
+@Entity
+@Getter
+@Table(name = "image_delete_task",
+        indexes = @Index(name = "idx_image_delete_task_next", columnList = "next_attempt_time, id"))
+@NoArgsConstructor(access = PROTECTED)
+public class ImageDeleteTask extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+    @Column(name = "object_name", nullable = false)
+    private String objectName;
+    private int attempts;
+    @Column(name = "next_attempt_time", nullable = false)
+    private LocalDateTime nextAttemptTime;
+
+    public ImageDeleteTask(String objectName) {
+        this.objectName = objectName;
+        this.attempts = 0;
+        this.nextAttemptTime = LocalDateTime.now();
+    }
+
+    public void updateId(Long id) {
+        this.id = id;
+    }
+
+    /**
+     * 처리중 표시, lease 동안은 다른 인스턴스가 가져가지 않는다.
+     */
+    public void claim(Duration lease) {
+        this.nextAttemptTime = LocalDateTime.now().plus(lease);
+    }
+
+    /**
+     * 처리하지 못하고 돌려놓음, 재시도 횟수는 그대로
+     */
+    public void release() {
+        this.nextAttemptTime = LocalDateTime.now();
+    }
+
+    /**
+     * base * 2^attempts, 최대 max 까지 늦춘다.
+     */
+    public void retryLater(Duration base, Duration max) {
+        Duration delay = base.multipliedBy(1L << Math.min(attempts, 20));
+        this.attempts++;
+        this.nextAttemptTime = LocalDateTime.now().plus(delay.compareTo(max) > 0 ? max : delay);
+    }
+}
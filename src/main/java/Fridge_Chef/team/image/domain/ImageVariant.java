@@ -0,0 +1,25 @@
+package Fridge_Chef.team.image.domain;
+
+import lombok.Getter;
+
+/**
+ * 업로드 이미지 크기별 변형, 긴 변 기준 최대 크기 (큰 것부터 순서대로 생성)
+ */
+@Getter
+public enum ImageVariant {
+    FULL("full_", 1920),
+    CARD("card_", 720),
+    THUMBNAIL("thumbnail_", 320);
+
+    private final String prefix;
+    private final int maxSize;
+
+    ImageVariant(String prefix, int maxSize) {
+        this.prefix = prefix;
+        this.maxSize = maxSize;
+    }
+
+    public String objectName(String name) {
+        return prefix + name;
+    }
+}
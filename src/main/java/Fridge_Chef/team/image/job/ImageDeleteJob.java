@@ -0,0 +1,42 @@
+package Fridge_Chef.team.image.job;
+
+import Fridge_Chef.team.image.service.ImageDeleteService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이미지 삭제 대기열 처리, 한 배치가 모두 성공하면 대기열이 빌 때까지 이어서 처리
+ */
+@Slf4j
+@Component
+@Profile({"prod", "dev"})
+public class ImageDeleteJob {
+    private final ImageDeleteService imageDeleteService;
+    private final int batchSize;
+
+    public ImageDeleteJob(ImageDeleteService imageDeleteService,
+                          @Value("${image.delete.batch-size:100}") int batchSize) {
+        this.imageDeleteService = imageDeleteService;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${image.delete.interval-ms:5000}")
+    void drain() {
+        try {
+            int total = 0;
+            int deleted;
+            do {
+                deleted = imageDeleteService.drain(batchSize);
+                total += deleted;
+            } while (deleted == batchSize);
+            if (total > 0) {
+                log.info("이미지 삭제 대기열 처리 : " + total + "건");
+            }
+        } catch (RuntimeException e) {
+            log.error("이미지 삭제 대기열 처리 실패, 다음 주기에 재시도", e);
+        }
+    }
+}
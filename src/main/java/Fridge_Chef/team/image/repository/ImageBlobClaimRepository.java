@@ -0,0 +1,36 @@
+package Fridge_Chef.team.image.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 업로드 전에 image_blob 행을 먼저 만들어 같은 내용의 업로드를 한 요청만 맡게 한다.
+ * JPA 로 insert 하면 unique 위반에서 트랜잭션이 rollback-only 가 되므로 같은 트랜잭션의 JDBC 로 실행
+ */
+@Repository
+@RequiredArgsConstructor
+public class ImageBlobClaimRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 다른 트랜잭션이 같은 해시를 아직 커밋하지 않았으면 insert 는 그 트랜잭션이 끝날 때까지 기다린다.
+     *
+     * @return 행을 만들었으면 true, 이미 있으면 false
+     */
+    public boolean claim(String contentHash, String objectName) {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            jdbcTemplate.update("""
+                    insert into image_blob (content_hash, object_name, ref_count, create_time, update_time)
+                    values (?, ?, 0, ?, ?)
+                    """, contentHash, objectName, now, now);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package Fridge_Chef.team.image.repository;
+
+import Fridge_Chef.team.image.domain.ImageBlob;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+
+import java.util.Optional;
+
+public interface ImageBlobRepository extends JpaRepository<ImageBlob, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<ImageBlob> findByContentHash(String contentHash);
+}
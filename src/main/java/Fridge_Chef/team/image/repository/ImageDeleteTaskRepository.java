@@ -0,0 +1,13 @@
+package Fridge_Chef.team.image.repository;
+
+import Fridge_Chef.team.image.domain.ImageDeleteTask;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ImageDeleteTaskRepository extends JpaRepository<ImageDeleteTask, Long> {
+
+    List<ImageDeleteTask> findByNextAttemptTimeLessThanEqualOrderByIdAsc(LocalDateTime now, Pageable pageable);
+}
@@ -0,0 +1,162 @@
+package Fridge_Chef.team.image.service;
+
+import java.awt.Graphics2D;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * jpeg APP1(Exif) 의 orientation 태그(0x0112) 만 읽어서 적용한다. ImageIO 는 이 태그를 무시함
+ * 태그가 없거나 형식이 깨졌으면 1(그대로)
+ */
+final class ExifOrientation {
+    static final int NORMAL = 1;
+    private static final int ORIENTATION_TAG = 0x0112;
+    /**
+     * APP1 은 파일 앞쪽, 세그먼트 최대 64KB 라 APP0 등을 넘어도 이 안에 들어온다.
+     */
+    private static final int HEAD_BYTES = 128 * 1024;
+
+    private ExifOrientation() {
+    }
+
+    /**
+     * 파일 전체가 아닌 앞부분만 읽어서 판단
+     */
+    static int of(InputStream jpeg) throws IOException {
+        return of(jpeg.readNBytes(HEAD_BYTES));
+    }
+
+    static int of(byte[] jpeg) {
+        if (jpeg.length < 4 || u8(jpeg, 0) != 0xFF || u8(jpeg, 1) != 0xD8) {
+            return NORMAL;
+        }
+        int offset = 2;
+        while (offset + 4 <= jpeg.length && u8(jpeg, offset) == 0xFF) {
+            int marker = u8(jpeg, offset + 1);
+            if (marker == 0xDA || marker == 0xD9) {
+                return NORMAL;
+            }
+            int length = u16(jpeg, offset + 2, false);
+            if (length < 2) {
+                return NORMAL;
+            }
+            if (marker == 0xE1 && isExif(jpeg, offset + 4)) {
+                return orientation(jpeg, offset + 10, Math.min(jpeg.length, offset + 2 + length));
+            }
+            offset += 2 + length;
+        }
+        return NORMAL;
+    }
+
+    /**
+     * 저장된 방향을 화면 방향으로 돌린 이미지, 5~8 은 가로 세로가 바뀐다.
+     */
+    static BufferedImage apply(BufferedImage source, int orientation, int type) {
+        if (orientation <= NORMAL || orientation > 8) {
+            return source;
+        }
+        int width = source.getWidth();
+        int height = source.getHeight();
+        AffineTransform transform = new AffineTransform();
+        switch (orientation) {
+            case 2 -> {
+                transform.translate(width, 0);
+                transform.scale(-1, 1);
+            }
+            case 3 -> {
+                transform.translate(width, height);
+                transform.quadrantRotate(2);
+            }
+            case 4 -> {
+                transform.translate(0, height);
+                transform.scale(1, -1);
+            }
+            case 5 -> {
+                transform.quadrantRotate(3);
+                transform.scale(-1, 1);
+            }
+            case 6 -> {
+                transform.translate(height, 0);
+                transform.quadrantRotate(1);
+            }
+            case 7 -> {
+                transform.translate(height, width);
+                transform.scale(-1, -1);
+                transform.quadrantRotate(3);
+                transform.scale(-1, 1);
+            }
+            default -> {
+                transform.translate(0, width);
+                transform.quadrantRotate(3);
+            }
+        }
+
+        boolean swap = orientation >= 5;
+        BufferedImage target = new BufferedImage(swap ? height : width, swap ? width : height, type);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.drawImage(source, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private static boolean isExif(byte[] jpeg, int offset) {
+        return offset + 6 <= jpeg.length
+                && jpeg[offset] == 'E' && jpeg[offset + 1] == 'x' && jpeg[offset + 2] == 'i' && jpeg[offset + 3] == 'f'
+                && jpeg[offset + 4] == 0 && jpeg[offset + 5] == 0;
+    }
+
+    /**
+     * @param tiff TIFF 헤더 시작 위치
+     * @param end  APP1 세그먼트 끝
+     */
+    private static int orientation(byte[] jpeg, int tiff, int end) {
+        if (tiff + 8 > end) {
+            return NORMAL;
+        }
+        boolean little;
+        if (jpeg[tiff] == 'I' && jpeg[tiff + 1] == 'I') {
+            little = true;
+        } else if (jpeg[tiff] == 'M' && jpeg[tiff + 1] == 'M') {
+            little = false;
+        } else {
+            return NORMAL;
+        }
+        long ifd = tiff + u32(jpeg, tiff + 4, little);
+        if (ifd + 2 > end) {
+            return NORMAL;
+        }
+        int entries = u16(jpeg, (int) ifd, little);
+        for (int i = 0; i < entries; i++) {
+            int entry = (int) ifd + 2 + i * 12;
+            if (entry + 12 > end) {
+                return NORMAL;
+            }
+            if (u16(jpeg, entry, little) == ORIENTATION_TAG) {
+                int value = u16(jpeg, entry + 8, little);
+                return value >= 1 && value <= 8 ? value : NORMAL;
+            }
+        }
+        return NORMAL;
+    }
+
+    private static int u8(byte[] bytes, int offset) {
+        return bytes[offset] & 0xFF;
+    }
+
+    private static int u16(byte[] bytes, int offset, boolean little) {
+        return little
+                ? u8(bytes, offset) | u8(bytes, offset + 1) << 8
+                : u8(bytes, offset) << 8 | u8(bytes, offset + 1);
+    }
+
+    private static long u32(byte[] bytes, int offset, boolean little) {
+        return little
+                ? (long) u16(bytes, offset + 2, true) << 16 | u16(bytes, offset, true)
+                : (long) u16(bytes, offset, false) << 16 | u16(bytes, offset + 2, false);
+    }
+}
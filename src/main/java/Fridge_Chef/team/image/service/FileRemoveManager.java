@@ -22,13 +22,24 @@ public class FileRemoveManager {
         this.image = image;
     }
 
+    public FileRemoveManager(ObjectStorage storageClient, ImageConfigMeta meta) {
+        this(storageClient, meta, null);
+    }
+
+    /**
+     * 원본과 크기별 변형을 모두 삭제, 이미 없는 오브젝트는 무시
+     */
     public void remove() {
         log.info("이미지 제거 이름 " + image.getName() +" , link :"+ image.getLink() +"");
         log.info("이미지 path :" + image.getPath());
+        image.getObjectNames().forEach(this::remove);
+    }
+
+    public void remove(String objectName) {
         DeleteObjectRequest request = DeleteObjectRequest.builder()
                 .bucketName(meta.getBucketName())
                 .namespaceName(meta.getNamespaceName())
-                .objectName(image.getName())
+                .objectName(objectName)
                 .build();
         try {
             storageClient.deleteObject(request);
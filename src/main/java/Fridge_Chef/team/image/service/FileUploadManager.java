@@ -6,54 +6,49 @@ import Fridge_Chef.team.exception.ErrorCode;
 import com.oracle.bmc.model.BmcException;
 import com.oracle.bmc.objectstorage.requests.PutObjectRequest;
 import com.oracle.bmc.objectstorage.transfer.UploadManager;
+import org.springframework.core.io.InputStreamSource;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 
-
+/**
+ * 멀티파트 파일을 임시 파일로 복사하지 않고 InputStream 과 파일 크기로 바로 업로드한다.
+ * 디스크로 넘어간 파트는 컨테이너 임시 파일을 그대로 읽고, 요청이 끝나면 컨테이너가 삭제한다.
+ */
 public class FileUploadManager {
 
     private final ImageConfigMeta imageConfigMeta;
     private final UploadManager uploadManager;
-    private final UploadManager.UploadRequest request;
+    private final InputStreamSource source;
+    private final long size;
+    private final String contentType;
+    private final String fileName;
 
     public FileUploadManager(UploadManager uploadManager, ImageConfigMeta imageConfigMeta, MultipartFile file, String fileName) {
+        this(uploadManager, imageConfigMeta, file, file.getSize(), file.getContentType(), fileName);
+    }
+
+    public FileUploadManager(UploadManager uploadManager, ImageConfigMeta imageConfigMeta, InputStreamSource source, long size, String contentType, String fileName) {
         this.imageConfigMeta = imageConfigMeta;
         this.uploadManager = uploadManager;
-        this.request = fileReadWith(fileName, file.getContentType(), multiToFile(file));
+        this.source = source;
+        this.size = size;
+        this.contentType = contentType;
+        this.fileName = fileName;
     }
 
     public void upload() {
-        try {
-            uploadManager.upload(request);
-        } catch (BmcException e) {
-            throw new ApiException(ErrorCode.IMAGE_REMOTE_UPLOAD);
-        }
-    }
-
-    private File multiToFile(MultipartFile multipartFile) {
-        try {
-            File tempFile = File.createTempFile("tempFile", multipartFile.getOriginalFilename());
-            tempFile.deleteOnExit();
-            try (InputStream inputStream = multipartFile.getInputStream();
-                    FileOutputStream outputStream = new FileOutputStream(tempFile)) {
-                byte[] buffer = new byte[1024];
-                int bytesRead;
-                while ((bytesRead = inputStream.read(buffer)) != -1) {
-                    outputStream.write(buffer, 0, bytesRead);
-                }
-            }
-
-            return tempFile;
+        try (InputStream inputStream = source.getInputStream()) {
+            uploadManager.upload(streamWith(fileName, contentType, inputStream, size));
         } catch (IOException e) {
             throw new ApiException(ErrorCode.IMAGE_FILE_ANALYIS);
+        } catch (BmcException e) {
+            throw new ApiException(ErrorCode.IMAGE_REMOTE_UPLOAD);
         }
     }
 
-    private UploadManager.UploadRequest fileReadWith(String objectName, String contentType, File file) {
+    private UploadManager.UploadRequest streamWith(String objectName, String contentType, InputStream inputStream, long contentLength) {
         PutObjectRequest request =
                 PutObjectRequest.builder()
                         .bucketName(imageConfigMeta.getBucketName())
@@ -62,8 +57,8 @@ public class FileUploadManager {
                         .contentType(contentType)
                         .build();
 
-        return UploadManager.UploadRequest.builder(file)
+        return UploadManager.UploadRequest.builder(inputStream, contentLength)
                 .allowOverwrite(true)
                 .build(request);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,50 @@
+package Fridge_Chef.team.image.service;
+
+import Fridge_Chef.team.exception.ApiException;
+import Fridge_Chef.team.exception.ErrorCode;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.UUID;
+
+public final class ImageContentHash {
+
+    private ImageContentHash() {
+    }
+
+    /**
+     * 업로드 파일 내용의 sha-256 (hex 64자)
+     */
+    public static String of(MultipartFile file) {
+        try (InputStream inputStream = file.getInputStream()) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException | NoSuchAlgorithmException e) {
+            throw new ApiException(ErrorCode.IMAGE_FILE_ANALYIS);
+        }
+    }
+
+    /**
+     * 해시 + blob 세대마다 다른 접미사, 참조가 0 이 된 뒤 같은 내용을 다시 올려도
+     * 이전 세대의 삭제 대기열이 새 오브젝트를 지우지 않는다.
+     */
+    public static String objectName(String contentHash, String contentType) {
+        String name = contentHash + "-" + UUID.randomUUID().toString().substring(0, 8);
+        if ("image/png".equals(contentType)) {
+            return name + ".png";
+        }
+        if ("image/jpeg".equals(contentType) || "image/jpg".equals(contentType)) {
+            return name + ".jpg";
+        }
+        return name;
+    }
+}
@@ -0,0 +1,108 @@
+package Fridge_Chef.team.image.service;
+
+import Fridge_Chef.team.config.model.ImageConfigMeta;
+import Fridge_Chef.team.image.domain.ImageDeleteTask;
+import Fridge_Chef.team.image.repository.ImageDeleteTaskRepository;
+import com.oracle.bmc.objectstorage.ObjectStorage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Service
+@Profile({"prod", "dev"})
+public class ImageDeleteService {
+    private static final int MAX_CONSECUTIVE_FAILURES = 3;
+    private final ImageDeleteTaskRepository imageDeleteTaskRepository;
+    private final ObjectStorage objectStorageClient;
+    private final ImageConfigMeta imageConfigMeta;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retryBase;
+    private final Duration retryMax;
+    private final Duration claimLease;
+
+    public ImageDeleteService(ImageDeleteTaskRepository imageDeleteTaskRepository, ObjectStorage objectStorageClient, ImageConfigMeta imageConfigMeta,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${image.delete.retry-base-seconds:30}") long retryBaseSeconds,
+                              @Value("${image.delete.retry-max-seconds:3600}") long retryMaxSeconds,
+                              @Value("${image.delete.claim-seconds:300}") long claimSeconds) {
+        this.imageDeleteTaskRepository = imageDeleteTaskRepository;
+        this.objectStorageClient = objectStorageClient;
+        this.imageConfigMeta = imageConfigMeta;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retryBase = Duration.ofSeconds(retryBaseSeconds);
+        this.retryMax = Duration.ofSeconds(retryMaxSeconds);
+        this.claimLease = Duration.ofSeconds(claimSeconds);
+    }
+
+    /**
+     * 삭제 시각이 된 대기열을 batchSize 만큼 짧은 트랜잭션으로 가져오면서 claimLease 만큼 미뤄두고(다른 인스턴스가 중복으로 가져가지 않게)
+     * 스토리지 삭제는 트랜잭션 밖에서 호출, 끝나면 다시 짧은 트랜잭션으로 성공한 행은 지우고 실패한 행은 재시도 시각을 늦춘다.
+     * 연속으로 실패하면 스토리지 장애로 보고 남은 행은 바로 다음 주기로 돌려놓는다.
+     * @return 삭제에 성공한 수
+     */
+    public int drain(int batchSize) {
+        List<ImageDeleteTask> tasks = transactionTemplate.execute(status -> claim(batchSize));
+        if (tasks == null || tasks.isEmpty()) {
+            return 0;
+        }
+
+        FileRemoveManager manager = new FileRemoveManager(objectStorageClient, imageConfigMeta);
+        List<Long> deleted = new ArrayList<>();
+        List<Long> failed = new ArrayList<>();
+        int processed = 0;
+        int failures = 0;
+        for (ImageDeleteTask task : tasks) {
+            if (failures >= MAX_CONSECUTIVE_FAILURES) {
+                break;
+            }
+            processed++;
+            try {
+                manager.remove(task.getObjectName());
+                deleted.add(task.getId());
+                failures = 0;
+            } catch (RuntimeException e) {
+                failed.add(task.getId());
+                failures++;
+                log.warn("이미지 삭제 실패 : " + task.getObjectName(), e);
+            }
+        }
+        List<Long> skipped = tasks.subList(processed, tasks.size())
+                .stream()
+                .map(ImageDeleteTask::getId)
+                .toList();
+
+        transactionTemplate.executeWithoutResult(status -> finish(deleted, failed, skipped));
+        return deleted.size();
+    }
+
+    private List<ImageDeleteTask> claim(int batchSize) {
+        List<ImageDeleteTask> tasks = imageDeleteTaskRepository.findByNextAttemptTimeLessThanEqualOrderByIdAsc(LocalDateTime.now(), PageRequest.of(0, batchSize));
+        tasks.forEach(task -> task.claim(claimLease));
+        return tasks;
+    }
+
+    private void finish(List<Long> deleted, List<Long> failed, List<Long> skipped) {
+        if (!deleted.isEmpty()) {
+            imageDeleteTaskRepository.deleteAllByIdInBatch(deleted);
+        }
+        if (!failed.isEmpty()) {
+            for (ImageDeleteTask task : imageDeleteTaskRepository.findAllById(failed)) {
+                task.retryLater(retryBase, retryMax);
+                log.warn("이미지 삭제 실패 " + task.getAttempts() + "회 : " + task.getObjectName() + ", 다음 시도 " + task.getNextAttemptTime());
+            }
+        }
+        if (!skipped.isEmpty()) {
+            imageDeleteTaskRepository.findAllById(skipped).forEach(ImageDeleteTask::release);
+        }
+    }
+}
@@ -8,6 +8,8 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 
@@ -67,6 +69,11 @@ public class ImageLocalService implements ImageService {
         return null;
     }
 
+    @Override
+    public List<Image> imageUploadAll(UserId userId, List<MultipartFile> files) {
+        return new ArrayList<>(Collections.nCopies(files.size(), null));
+    }
+
     @Override
     public void imageRemove(Image image) {
 
@@ -4,7 +4,12 @@ import Fridge_Chef.team.config.model.ImageConfigMeta;
 import Fridge_Chef.team.exception.ApiException;
 import Fridge_Chef.team.exception.ErrorCode;
 import Fridge_Chef.team.image.domain.Image;
+import Fridge_Chef.team.image.domain.ImageBlob;
+import Fridge_Chef.team.image.domain.ImageDeleteTask;
 import Fridge_Chef.team.image.domain.ImageType;
+import Fridge_Chef.team.image.repository.ImageBlobClaimRepository;
+import Fridge_Chef.team.image.repository.ImageBlobRepository;
+import Fridge_Chef.team.image.repository.ImageDeleteTaskRepository;
 import Fridge_Chef.team.image.repository.ImageRepository;
 import Fridge_Chef.team.user.domain.User;
 import Fridge_Chef.team.user.domain.UserId;
@@ -12,14 +17,13 @@ import com.oracle.bmc.objectstorage.ObjectStorage;
 import com.oracle.bmc.objectstorage.transfer.UploadManager;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.util.List;
-import java.util.UUID;
+import java.util.*;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -30,12 +34,22 @@ public class ImageProdService implements ImageService {
     private final ObjectStorage objectStorageClient;
     private final ImageRepository imageRepository;
     private final ImageConfigMeta imageConfigMeta;
+    private final ParallelImageUploader parallelImageUploader;
+    private final ImageResizer imageResizer;
+    private final ImageDeleteTaskRepository imageDeleteTaskRepository;
+    private final ImageBlobRepository imageBlobRepository;
+    private final ImageBlobClaimRepository imageBlobClaimRepository;
 
-    public ImageProdService(UploadManager uploadManager, ObjectStorage objectStorageClient, ImageRepository imageRepository, ImageConfigMeta imageConfigMeta) {
+    public ImageProdService(UploadManager uploadManager, ObjectStorage objectStorageClient, ImageRepository imageRepository, ImageConfigMeta imageConfigMeta, ParallelImageUploader parallelImageUploader, ImageResizer imageResizer, ImageDeleteTaskRepository imageDeleteTaskRepository, ImageBlobRepository imageBlobRepository, ImageBlobClaimRepository imageBlobClaimRepository) {
         this.uploadManager = uploadManager;
         this.objectStorageClient = objectStorageClient;
         this.imageRepository = imageRepository;
+        this.imageDeleteTaskRepository = imageDeleteTaskRepository;
+        this.imageBlobRepository = imageBlobRepository;
+        this.imageBlobClaimRepository = imageBlobClaimRepository;
         this.imageConfigMeta = imageConfigMeta;
+        this.parallelImageUploader = parallelImageUploader;
+        this.imageResizer = imageResizer;
     }
 
     @Override
@@ -45,7 +59,7 @@ public class ImageProdService implements ImageService {
             return imageUpload(userId, file);
         }
         return imageRepository.findById(imageId)
-                .orElse(imageUpload(userId, file));
+                .orElseGet(() -> imageUpload(userId, file));
     }
 
     @Transactional
@@ -54,12 +68,10 @@ public class ImageProdService implements ImageService {
             log.info("image null");
             return imageRepository.save(Image.none());
         }
-        String fileName = onlyNameChange(file.getOriginalFilename());
-        upload(file, fileName);
-        Image image = new Image(imageConfigMeta.getUrl(), imageConfigMeta.getUploadPath(), fileName, ImageType.ORACLE_CLOUD, userId);
+        Image image = imageUploadAll(userId, Collections.singletonList(file)).get(0);
         log.info("size : "+file.getSize() +" , isEmpty() : "+file.isEmpty() + ","+file.getContentType());
-        log.info("[Image] upload success " + fileName);
-        return imageRepository.save(image);
+        log.info("[Image] upload success " + image.getName());
+        return image;
     }
 
     @Transactional
@@ -67,11 +79,8 @@ public class ImageProdService implements ImageService {
         if (file.isEmpty()) {
             return imageRepository.save(Image.none());
         }
-        String fileName = onlyNameChange(file.getOriginalFilename());
-        upload(file, fileName);
-        Image image = new Image(imageConfigMeta.getUrl(), imageConfigMeta.getUploadPath(), fileName, ImageType.ORACLE_CLOUD, user.getUserId());
-        log.info("image upload success User : " + user.getUserId() + " _ , " + fileName);
-        imageRepository.save(image);
+        Image image = imageUploadAll(user.getUserId(), Collections.singletonList(file)).get(0);
+        log.info("image upload success User : " + user.getUserId() + " _ , " + image.getName());
         user.updatePicture(image);
         return image;
     }
@@ -94,9 +103,7 @@ public class ImageProdService implements ImageService {
             throw new ApiException(ErrorCode.IMAGE_AUTHOR_MISMATCH);
         }
 
-        FileRemoveManager manager = new FileRemoveManager(objectStorageClient, imageConfigMeta, image);
-        manager.remove();
-        imageRepository.delete(image);
+        removeLater(image);
         log.info("image remove success User : " + userId + " _ , " + image.getName());
     }
 
@@ -109,18 +116,70 @@ public class ImageProdService implements ImageService {
 
     @Override
     public void imageRemove(Image image) {
-        FileRemoveManager manager = new FileRemoveManager(objectStorageClient, imageConfigMeta, image);
-        manager.remove();
+        removeLater(image);
         log.info("image.id remove success : " + image.getName());
+    }
+
+    /**
+     * 오브젝트 스토리지 삭제는 같은 트랜잭션에 대기열로만 남기고 ImageDeleteJob 이 나중에 삭제
+     * 같은 내용을 다른 Image 가 아직 참조하면 오브젝트는 남긴다.
+     */
+    private void removeLater(Image image) {
+        if (ImageType.ORACLE_CLOUD.equals(image.getType()) && isLastReference(image)) {
+            imageDeleteTaskRepository.saveAll(image.getObjectNames()
+                    .stream()
+                    .map(ImageDeleteTask::new)
+                    .toList());
+        }
         imageRepository.delete(image);
     }
 
+    /**
+     * 내용 해시가 없는 이전 이미지는 혼자 쓰는 오브젝트, 있으면 참조 수를 줄이고 0 이면 blob 행도 삭제
+     */
+    private boolean isLastReference(Image image) {
+        if (image.getContentHash() == null) {
+            return true;
+        }
+        return imageBlobRepository.findByContentHash(image.getContentHash())
+                .map(blob -> {
+                    if (!blob.decrease()) {
+                        return false;
+                    }
+                    imageBlobRepository.delete(blob);
+                    return true;
+                })
+                .orElse(false);
+    }
+
     public void upload(MultipartFile multipartFile, String fileName) {
         FileUploadManager file = new FileUploadManager(uploadManager, imageConfigMeta, multipartFile, fileName);
         file.upload();
         log.info(fileName+"image update");
     }
 
+    /**
+     * 원본 업로드 후 크기별 변형을 원본 옆에 올리고 Image 에 기록, 중간에 실패하면 올라간 것 모두 삭제
+     */
+    private void uploadWithVariants(MultipartFile file, Image image) {
+        upload(file, image.getName());
+        try {
+            imageResizer.resize(file).forEach((variant, bytes) -> {
+                String objectName = variant.objectName(image.getName());
+                new FileUploadManager(uploadManager, imageConfigMeta, new ByteArrayResource(bytes), bytes.length, file.getContentType(), objectName)
+                        .upload();
+                image.updateVariant(variant, objectName);
+            });
+        } catch (RuntimeException e) {
+            try {
+                new FileRemoveManager(objectStorageClient, imageConfigMeta, image).remove();
+            } catch (RuntimeException removeFail) {
+                log.warn("변형 업로드 실패 후 삭제 실패 : " + image.getName(), removeFail);
+            }
+            throw e;
+        }
+    }
+
     public void filter(MultipartFile file) {
         String type = file.getContentType();
         if (type == null || !mimePattern.matcher(type).matches()) {
@@ -137,15 +196,81 @@ public class ImageProdService implements ImageService {
             return List.of();
         }
         filters(files);
-        return files.stream()
-                .map(file -> imageUpload(userId, file))
-                .collect(Collectors.toList());
+        return imageUploadAll(userId, files);
     }
 
+    /**
+     * 파일을 동시에 업로드하고 모두 성공하면 Image 를 한 번에 저장, 파일 순서 그대로 반환
+     * 같은 내용(sha-256)이 이미 올라가 있으면 업로드하지 않고 참조 수만 늘린다. 요청 안의 중복도 한 번만 업로드
+     * 새 내용은 blob 행을 먼저 만든 요청만 업로드하므로 동시에 같은 내용을 올려도 한 번만 올라가고,
+     * 실패하면 이 요청이 올린 오브젝트만 삭제되고 행도 롤백된다.
+     * 비어있는 파일은 Image.none(), 하나라도 실패하면 올라간 파일은 삭제하고 예외
+     */
+    @Override
+    @Transactional
+    public List<Image> imageUploadAll(UserId userId, List<MultipartFile> files) {
+        List<Image> images = new ArrayList<>();
+        Map<String, ImageUpload> uploads = new LinkedHashMap<>();
+        for (MultipartFile file : files) {
+            if (file == null || file.isEmpty()) {
+                images.add(Image.none());
+                continue;
+            }
+            String contentHash = ImageContentHash.of(file);
+            Image image = new Image(imageConfigMeta.getUrl(), imageConfigMeta.getUploadPath(),
+                    ImageContentHash.objectName(contentHash, file.getContentType()), ImageType.ORACLE_CLOUD, userId);
+            image.updateContentHash(contentHash);
+            images.add(image);
+            if (uploads.containsKey(contentHash)) {
+                continue;
+            }
+
+            Optional<ImageBlob> blob = findOrClaim(contentHash, image.getName());
+            if (blob.isPresent()) {
+                blob.get().increase();
+                image.linkBlob(blob.get());
+                continue;
+            }
+            uploads.put(contentHash, new ImageUpload(file, image));
+        }
+
+        parallelImageUploader.uploadAll(new ArrayList<>(uploads.values()),
+                upload -> uploadWithVariants(upload.file(), upload.image()),
+                upload -> new FileRemoveManager(objectStorageClient, imageConfigMeta, upload.image()).remove());
+        uploads.forEach((contentHash, upload) -> saveBlob(contentHash, upload.image(), images));
+        log.info("[Image] upload success " + uploads.size() + "/" + files.size());
+        return imageRepository.saveAll(images);
+    }
+
+    /**
+     * 있는 blob 은 잠가서 반환, 없으면 행을 먼저 만들고 empty (이 요청이 업로드)
+     * 다른 요청이 먼저 만들어 커밋했으면 그 blob 을 다시 읽어서 쓴다.
+     */
+    private Optional<ImageBlob> findOrClaim(String contentHash, String objectName) {
+        Optional<ImageBlob> blob = imageBlobRepository.findByContentHash(contentHash);
+        if (blob.isPresent() || imageBlobClaimRepository.claim(contentHash, objectName)) {
+            return blob;
+        }
+        log.info("[Image] 다른 요청이 먼저 올린 내용 : " + contentHash);
+        return Optional.of(imageBlobRepository.findByContentHash(contentHash)
+                .orElseThrow(() -> new ApiException(ErrorCode.IMAGE_REMOTE_UPLOAD)));
+    }
+
+    /**
+     * 먼저 만들어 둔 blob 행에 변형 이름을 채우고 새로 올린 내용을 가리키는 Image 들을 연결
+     */
+    private void saveBlob(String contentHash, Image uploaded, List<Image> images) {
+        ImageBlob blob = imageBlobRepository.findByContentHash(contentHash)
+                .orElseThrow(() -> new ApiException(ErrorCode.IMAGE_REMOTE_UPLOAD));
+        blob.updateVariants(uploaded);
+        images.stream()
+                .filter(image -> contentHash.equals(image.getContentHash()))
+                .forEach(image -> {
+                    image.linkBlob(blob);
+                    blob.increase();
+                });
+    }
 
-    private String onlyNameChange(String name) {
-        String cleanedName = name.replaceAll("\\s", "");
-        String uuidString = UUID.randomUUID().toString();
-        return uuidString + "_" + cleanedName;
+    private record ImageUpload(MultipartFile file, Image image) {
     }
 }
@@ -0,0 +1,152 @@
+package Fridge_Chef.team.image.service;
+
+import Fridge_Chef.team.exception.ApiException;
+import Fridge_Chef.team.exception.ErrorCode;
+import Fridge_Chef.team.image.domain.ImageVariant;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * jpeg/png 를 한 번만 디코딩해서 긴 변 기준으로 줄인 변형(full, card, thumbnail)을 만든다.
+ * 큰 변형부터 만들고 다음 변형은 직전 결과에서 줄인다. 원본보다 크지 않은 변형은 만들지 않는다. (원본 링크 사용)
+ * 디코딩 전에 헤더의 가로 세로만 읽어서 MAX_PIXELS 를 넘으면 거부하고, full 보다 큰 이미지는 서브샘플링으로 디코딩해서
+ * 전체 비트맵을 메모리에 올리지 않는다. 업로드 파일도 byte[] 로 복사하지 않고 스트림에서 읽는다.
+ * jpeg 는 Exif orientation 을 먼저 적용한다. (스트림을 다시 열어 앞부분만 읽음)
+ */
+@Slf4j
+@Component
+public class ImageResizer {
+    static final long MAX_PIXELS = 50_000_000L;
+    private final long maxPixels;
+
+    public ImageResizer() {
+        this(MAX_PIXELS);
+    }
+
+    ImageResizer(long maxPixels) {
+        this.maxPixels = maxPixels;
+    }
+
+    public Map<ImageVariant, byte[]> resize(MultipartFile file) {
+        String format = format(file.getContentType());
+        if (format == null) {
+            return Map.of();
+        }
+        BufferedImage current = read(file);
+        if (current == null) {
+            log.warn("이미지 디코딩 실패, 원본만 사용 : " + file.getOriginalFilename());
+            return Map.of();
+        }
+        if (format.equals("jpg")) {
+            current = ExifOrientation.apply(current, orientation(file), type(format));
+        }
+
+        Map<ImageVariant, byte[]> variants = new EnumMap<>(ImageVariant.class);
+        for (ImageVariant variant : ImageVariant.values()) {
+            if (Math.max(current.getWidth(), current.getHeight()) <= variant.getMaxSize()) {
+                continue;
+            }
+            current = scale(current, variant.getMaxSize(), format);
+            variants.put(variant, write(current, format));
+        }
+        return variants;
+    }
+
+    private int orientation(MultipartFile file) {
+        try (InputStream inputStream = file.getInputStream()) {
+            return ExifOrientation.of(inputStream);
+        } catch (IOException e) {
+            return ExifOrientation.NORMAL;
+        }
+    }
+
+    /**
+     * 서브샘플링 간격은 디코딩 결과의 긴 변이 full 크기보다 크게 남도록 정한다.
+     */
+    private BufferedImage read(MultipartFile file) {
+        try (InputStream inputStream = file.getInputStream();
+             ImageInputStream input = ImageIO.createImageInputStream(inputStream)) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    log.warn("이미지 해상도 초과 : " + width + "x" + height);
+                    throw new ApiException(ErrorCode.IMAGE_PIXEL_LIMIT);
+                }
+                int step = Math.max(1, (Math.max(width, height) - 1) / ImageVariant.FULL.getMaxSize());
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private BufferedImage scale(BufferedImage source, int maxSize, String format) {
+        double ratio = (double) maxSize / Math.max(source.getWidth(), source.getHeight());
+        int width = Math.max(1, (int) Math.round(source.getWidth() * ratio));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * ratio));
+        BufferedImage target = new BufferedImage(width, height, type(format));
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private byte[] write(BufferedImage image, String format) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try {
+            ImageIO.write(image, format, outputStream);
+        } catch (IOException e) {
+            throw new ApiException(ErrorCode.IMAGE_FILE_ANALYIS);
+        }
+        return outputStream.toByteArray();
+    }
+
+    private int type(String format) {
+        return format.equals("png") ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+    }
+
+    private String format(String contentType) {
+        if (contentType == null) {
+            return null;
+        }
+        return switch (contentType) {
+            case "image/png" -> "png";
+            case "image/jpeg", "image/jpg" -> "jpg";
+            default -> null;
+        };
+    }
+}
@@ -26,6 +26,8 @@ public interface ImageService {
 
     List<Image> imageUploads(UserId userId, List<MultipartFile> files);
 
+    List<Image> imageUploadAll(UserId userId, List<MultipartFile> files);
+
     void imageRemove(Image image);
 
 }
@@ -0,0 +1,85 @@
+package Fridge_Chef.team.image.service;
+
+import Fridge_Chef.team.exception.ApiException;
+import Fridge_Chef.team.exception.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 한 요청의 이미지들을 크기가 정해진 스레드 풀에서 동시에 업로드, 전체 시간은 가장 느린 업로드 하나 정도
+ * 하나라도 실패하면 이미 올라간 파일을 삭제(보상)하고 첫 번째 예외를 던진다.
+ */
+@Slf4j
+@Component
+public class ParallelImageUploader {
+    private final ExecutorService executor;
+
+    public ParallelImageUploader(@Value("${image.upload.parallelism:8}") int parallelism) {
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "image-upload-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public <T> void uploadAll(List<T> uploads, Consumer<T> upload, Consumer<T> compensate) {
+        if (uploads.size() <= 1) {
+            uploads.forEach(upload);
+            return;
+        }
+        List<CompletableFuture<T>> futures = uploads.stream()
+                .map(item -> CompletableFuture.supplyAsync(() -> {
+                    upload.accept(item);
+                    return item;
+                }, executor))
+                .toList();
+
+        List<T> uploaded = new ArrayList<>();
+        RuntimeException failure = null;
+        for (CompletableFuture<T> future : futures) {
+            try {
+                uploaded.add(future.join());
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = unwrap(e);
+                }
+            }
+        }
+        if (failure == null) {
+            return;
+        }
+        log.warn("이미지 업로드 실패 " + (uploads.size() - uploaded.size()) + "/" + uploads.size() + ", 업로드된 " + uploaded.size() + "건 삭제");
+        for (T item : uploaded) {
+            try {
+                compensate.accept(item);
+            } catch (RuntimeException e) {
+                log.warn("업로드 보상 삭제 실패 : " + item, e);
+            }
+        }
+        throw failure;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private RuntimeException unwrap(CompletionException e) {
+        if (e.getCause() instanceof RuntimeException cause) {
+            return cause;
+        }
+        return new ApiException(ErrorCode.IMAGE_REMOTE_UPLOAD);
+    }
+}
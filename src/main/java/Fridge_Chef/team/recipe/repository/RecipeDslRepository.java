@@ -1,26 +1,34 @@
 package Fridge_Chef.team.recipe.repository;
 
-import Fridge_Chef.team.board.domain.Board;
-import Fridge_Chef.team.board.domain.BoardUserEvent;
+import Fridge_Chef.team.common.page.CursorPage;
+import Fridge_Chef.team.common.page.PageCursor;
+import Fridge_Chef.team.recipe.repository.model.RecipeSearchRow;
 import Fridge_Chef.team.recipe.repository.model.RecipeSearchSortType;
 import Fridge_Chef.team.recipe.rest.request.RecipePageRequest;
 import Fridge_Chef.team.recipe.rest.response.RecipeSearchResponse;
 import Fridge_Chef.team.user.domain.UserId;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static Fridge_Chef.team.board.domain.QBoard.board;
 import static Fridge_Chef.team.board.domain.QBoardUserEvent.boardUserEvent;
@@ -46,22 +54,179 @@ import static Fridge_Chef.team.user.domain.QUser.user;
 @Repository
 @RequiredArgsConstructor
 public class RecipeDslRepository {
+    private static final int IN_CLAUSE_LIMIT = 1000;
     private final JPAQueryFactory factory;
 
 
     @Transactional(readOnly = true)
     public Page<RecipeSearchResponse> findRecipesByIngredients(PageRequest pageable, RecipePageRequest request, List<String> must, List<String> ingredients, Optional<UserId> userId) {
-        BooleanBuilder pickBuilder = new BooleanBuilder();
-        BooleanBuilder mustBuilder = new BooleanBuilder();
         List<String> pick = merge(must, ingredients);
 
+        var query = searchQuery(must, ingredients, pick)
+                .select(searchRow())
+                .groupBy(searchRowGroup())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize());
+
+        applySort(query, request.sortType());
+
+        List<RecipeSearchRow> result = query.fetch();
+
+        return PageableExecutionUtils.getPage(
+                toResponses(result, pick, userId),
+                pageable,
+                () -> countByIngredients(must, ingredients, pick));
+    }
+
+    /**
+     * 무한 스크롤용, 전체 개수 없이 size + 1 건 조회로 다음 페이지 여부만 판단
+     */
+    @Transactional(readOnly = true)
+    public Slice<RecipeSearchResponse> findRecipeSliceByIngredients(PageRequest pageable, RecipePageRequest request, List<String> must, List<String> ingredients, Optional<UserId> userId) {
+        List<String> pick = merge(must, ingredients);
+
+        var query = searchQuery(must, ingredients, pick)
+                .select(searchRow())
+                .groupBy(searchRowGroup())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1);
+
+        applySort(query, request.sortType());
+
+        List<RecipeSearchRow> result = query.fetch();
+        boolean hasNext = result.size() > pageable.getPageSize();
+        if (hasNext) {
+            result = result.subList(0, pageable.getPageSize());
+        }
+
+        return new SliceImpl<>(toResponses(result, pick, userId), pageable, hasNext);
+    }
+
+    /**
+     * 역색인 준비 전 키셋 페이지, 재료 조건으로 걸러서 커서의 (정렬값, id) 이후 size + 1 건 조회
+     * MATCH 정렬값은 일치한 재료 수, 역색인 점수와 달라서 준비 전후로 이어지는 커서는 위치가 조금 어긋날 수 있다.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<RecipeSearchResponse> findRecipeCursorByIngredients(RecipeSearchSortType sortType, int size, PageCursor after, List<String> must, List<String> ingredients, Optional<UserId> userId) {
+        List<String> pick = merge(must, ingredients);
+        ConstructorExpression<RecipeSearchRow> row = searchRow();
+        NumberExpression<Long> matched = recipeIngredient.ingredient.name.count();
+
+        JPAQuery<Tuple> query = searchQuery(must, ingredients, pick)
+                .select(row, matched)
+                .groupBy(searchRowGroup())
+                .limit(size + 1);
+
+        if (after != null && sortType == RecipeSearchSortType.MATCH) {
+            long key = (long) after.doubleKey();
+            query.having(matched.lt(key).or(matched.eq(key).and(board.id.lt(after.id()))));
+        } else if (after != null) {
+            query.where(seek(sortType, after));
+        }
+        applySort(query, sortType);
+
+        return CursorPage.of(query.fetch(), size,
+                tuple -> PageCursor.of(sortType, sortKey(sortType, tuple.get(row), tuple.get(matched)), tuple.get(row).id()),
+                page -> toResponses(page.stream().map(tuple -> tuple.get(row)).toList(), pick, userId));
+    }
+
+    /**
+     * 역색인에서 정렬이 끝난 현재 페이지 게시글 조회, 요청한 id 순서 유지
+     */
+    @Transactional(readOnly = true)
+    public List<RecipeSearchRow> findRowsByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, RecipeSearchRow> rows = factory
+                .select(searchRow())
+                .from(board)
+                .leftJoin(board.user, user)
+                .where(board.id.in(ids))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(RecipeSearchRow::id, Function.identity()));
+
+        return ids.stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * 역색인으로 걸러진 후보 게시글 안에서 평점, 좋아요, 최신순 정렬
+     */
+    @Transactional(readOnly = true)
+    public List<RecipeSearchRow> findRowsByCandidateIds(PageRequest pageable, RecipeSearchSortType sortType, List<Long> candidateIds) {
+        if (candidateIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
         var query = factory
-                .selectFrom(board)
+                .select(searchRow())
+                .from(board)
+                .leftJoin(board.user, user)
+                .where(idIn(candidateIds))
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .limit(pageable.getPageSize());
+
+        applySort(query, sortType);
+        return query.fetch();
+    }
+
+    /**
+     * 키셋 페이지, 후보 게시글 중 커서의 (정렬값, id) 이후만 조회
+     */
+    @Transactional(readOnly = true)
+    public List<RecipeSearchRow> findRowsByCandidateIdsAfter(RecipeSearchSortType sortType, List<Long> candidateIds, PageCursor after, int limit) {
+        if (candidateIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        var query = factory
+                .select(searchRow())
+                .from(board)
+                .leftJoin(board.user, user)
+                .where(idIn(candidateIds))
+                .limit(limit);
+
+        if (after != null) {
+            query.where(seek(sortType, after));
+        }
+        applySort(query, sortType);
+        return query.fetch();
+    }
+
+    @Transactional(readOnly = true)
+    public Set<Long> findLikedBoardIds(List<Long> boardIds, Optional<UserId> userId) {
+        if (userId.isEmpty() || boardIds.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        return new HashSet<>(factory.select(boardUserEvent.board.id)
+                .from(boardUserEvent)
+                .where(boardUserEvent.board.id.in(boardIds), boardUserEvent.user.userId.eq(userId.get()))
+                .where(boardUserEvent.hit.eq(1))
+                .fetch());
+    }
+
+    private long countByIngredients(List<String> must, List<String> ingredients, List<String> pick) {
+        Long count = searchQuery(must, ingredients, pick)
+                .select(board.id.countDistinct())
+                .fetchOne();
+        return count == null ? 0 : count;
+    }
+
+    private JPAQuery<?> searchQuery(List<String> must, List<String> ingredients, List<String> pick) {
+        BooleanBuilder pickBuilder = new BooleanBuilder();
+        BooleanBuilder mustBuilder = new BooleanBuilder();
+
+        JPAQuery<?> query = factory
+                .from(board)
+                .leftJoin(board.user, user)
                 .leftJoin(board.context.boardIngredients, recipeIngredient)
-                .leftJoin(recipeIngredient.ingredient, ingredient)
-                .groupBy(board);
+                .leftJoin(recipeIngredient.ingredient, ingredient);
 
         validTask(must,
                 () -> must.forEach(find -> mustBuilder.and(board.context.pathIngredient.contains(find))),
@@ -70,35 +235,49 @@ public class RecipeDslRepository {
         validTask(ingredients,
                 () -> pickBuilder.or(recipeIngredient.ingredient.name.in(pick)),
                 () -> query.where(pickBuilder));
+        return query;
+    }
 
-        int totalSize = query.fetch().size();
-
-        applySort(query, request.sortType());
+    private ConstructorExpression<RecipeSearchRow> searchRow() {
+        return Projections.constructor(RecipeSearchRow.class,
+                board.id,
+                board.title,
+                user.profile.username,
+                board.pathMainImage,
+                board.totalStar,
+                board.hit,
+                board.count,
+                board.createTime,
+                board.context.pathIngredient);
+    }
 
-        List<Board> result = query.fetch();
-        List<BoardUserEvent> userEvent = getUserEvent(result, userId);
+    private Expression<?>[] searchRowGroup() {
+        return new Expression<?>[]{
+                board.id,
+                board.title,
+                user.profile.username,
+                board.pathMainImage,
+                board.totalStar,
+                board.hit,
+                board.count,
+                board.createTime,
+                board.context.pathIngredient};
+    }
 
-        return PageableExecutionUtils.getPage(
-                RecipeSearchResponse.of(result, pick, userEvent),
-                pageable,
-                () -> totalSize);
-    }
-
-    private List<BoardUserEvent> getUserEvent(List<Board> boards, Optional<UserId> userId) {
-        if (userId.isPresent()) {
-            List<Long> ids = boards.stream()
-                    .map(Board::getId)
-                    .toList();
-
-            return factory.select(boardUserEvent)
-                    .from(boardUserEvent)
-                    .leftJoin(boardUserEvent.board, board)
-                    .leftJoin(boardUserEvent.user, user)
-                    .where(boardUserEvent.board.id.in(ids), boardUserEvent.user.userId.eq(userId.get()))
-                    .where(boardUserEvent.hit.eq(1))
-                    .fetch();
+    private BooleanBuilder idIn(List<Long> ids) {
+        BooleanBuilder builder = new BooleanBuilder();
+        for (int i = 0; i < ids.size(); i += IN_CLAUSE_LIMIT) {
+            builder.or(board.id.in(ids.subList(i, Math.min(i + IN_CLAUSE_LIMIT, ids.size()))));
         }
-        return new ArrayList<>();
+        return builder;
+    }
+
+    private List<RecipeSearchResponse> toResponses(List<RecipeSearchRow> rows, List<String> pick, Optional<UserId> userId) {
+        List<Long> ids = rows.stream()
+                .map(RecipeSearchRow::id)
+                .toList();
+        Set<Long> likedBoardIds = findLikedBoardIds(ids, userId);
+        return RecipeSearchResponse.of(rows, new HashSet<>(pick), likedBoardIds);
     }
 
     private void validTask(List<String> ingredient, Runnable... runnables) {
@@ -107,13 +286,34 @@ public class RecipeDslRepository {
         }
     }
 
-    private void applySort(JPAQuery<Board> query, RecipeSearchSortType sortType) {
+    private void applySort(JPAQuery<?> query, RecipeSearchSortType sortType) {
         switch (sortType) {
             case MATCH -> query.orderBy(recipeIngredient.ingredient.name.count().desc());
             case RATING -> query.orderBy(board.totalStar.desc());
             case LIKE -> query.orderBy(board.hit.desc());
             default -> query.orderBy(board.createTime.desc());
         }
+        query.orderBy(board.id.desc());
+    }
+
+    private Object sortKey(RecipeSearchSortType sortType, RecipeSearchRow row, Long matched) {
+        return switch (sortType) {
+            case MATCH -> matched;
+            case RATING -> row.star();
+            case LIKE -> row.hit();
+            default -> row.createTime();
+        };
+    }
+
+    private BooleanExpression seek(RecipeSearchSortType sortType, PageCursor cursor) {
+        return switch (sortType) {
+            case RATING -> board.totalStar.lt(cursor.doubleKey())
+                    .or(board.totalStar.eq(cursor.doubleKey()).and(board.id.lt(cursor.id())));
+            case LIKE -> board.hit.lt(cursor.intKey())
+                    .or(board.hit.eq(cursor.intKey()).and(board.id.lt(cursor.id())));
+            default -> board.createTime.lt(cursor.timeKey())
+                    .or(board.createTime.eq(cursor.timeKey()).and(board.id.lt(cursor.id())));
+        };
     }
 
     private List<String> merge(List<String> left, List<String> right) {
@@ -0,0 +1,14 @@
+package Fridge_Chef.team.recipe.repository.model;
+
+import java.time.LocalDateTime;
+
+public record RecipeSearchRow(Long id,
+                              String title,
+                              String userName,
+                              String mainImage,
+                              Double star,
+                              Integer hit,
+                              Integer click,
+                              LocalDateTime createTime,
+                              String pathIngredient) {
+}
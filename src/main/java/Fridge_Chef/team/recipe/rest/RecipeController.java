@@ -1,5 +1,6 @@
 package Fridge_Chef.team.recipe.rest;
 
+import Fridge_Chef.team.common.page.CursorPage;
 import Fridge_Chef.team.recipe.repository.model.RecipeSearchSortType;
 import Fridge_Chef.team.recipe.rest.request.RecipePageRequest;
 import Fridge_Chef.team.recipe.rest.response.RecipeSearchResponse;
@@ -7,6 +8,7 @@ import Fridge_Chef.team.recipe.service.RecipeService;
 import Fridge_Chef.team.user.rest.model.AuthenticatedUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -34,4 +36,28 @@ public class RecipeController {
 
         return recipeService.searchRecipe(request, Arrays.asList(must), Arrays.asList(ingredients), AuthenticatedUser.anonymousUser(user));
     }
+
+    @GetMapping("/scroll")
+    public Slice<RecipeSearchResponse> scroll(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @RequestParam(defaultValue = "", required = false) String[] must,
+            @RequestParam(defaultValue = "", required = false) String[] ingredients,
+            @RequestParam(defaultValue = "0", required = false) int page,
+            @RequestParam(defaultValue = "50", required = false) int size,
+            @RequestParam(defaultValue = "MATCH", required = false) RecipeSearchSortType sort) {
+        RecipePageRequest request = new RecipePageRequest(page, size, sort);
+
+        return recipeService.scrollRecipe(request, Arrays.asList(must), Arrays.asList(ingredients), AuthenticatedUser.anonymousUser(user));
+    }
+
+    @GetMapping("/cursor")
+    public CursorPage<RecipeSearchResponse> cursor(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @RequestParam(defaultValue = "", required = false) String[] must,
+            @RequestParam(defaultValue = "", required = false) String[] ingredients,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50", required = false) int size,
+            @RequestParam(defaultValue = "MATCH", required = false) RecipeSearchSortType sort) {
+        return recipeService.cursorRecipe(sort, size, cursor, Arrays.asList(must), Arrays.asList(ingredients), AuthenticatedUser.anonymousUser(user));
+    }
 }
@@ -1,7 +1,7 @@
 package Fridge_Chef.team.recipe.rest.response;
 
-import Fridge_Chef.team.board.domain.Board;
-import Fridge_Chef.team.board.domain.BoardUserEvent;
+import Fridge_Chef.team.recipe.repository.model.RecipeSearchRow;
+import Fridge_Chef.team.recipe.service.model.RecipeIngredientMatch;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -10,6 +10,7 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 
 @Data
 @Builder
@@ -30,47 +31,51 @@ public class RecipeSearchResponse {
     private long withoutCount;
     private List<String> without;
 
-    public static RecipeSearchResponse of(Board board, List<String> pick, List<BoardUserEvent> boardUserEvents) {
-        List<String> ingredients = Arrays.stream(board.getContext().getPathIngredient().split(","))
-                .toList();
+    public RecipeSearchResponse withMyHit(boolean myHit) {
+        return new RecipeSearchResponse(id, title, userName, mainImage, star, hit, myHit, click, createTime, have, withoutCount, without);
+    }
+
+    public static RecipeSearchResponse of(RecipeSearchRow row, Set<String> pick, Set<Long> likedBoardIds) {
+        List<String> ingredients = row.pathIngredient() == null ? List.of() : Arrays.asList(row.pathIngredient().split(","));
 
         List<String> without = ingredients.stream()
                 .filter(ingredientName -> !pick.contains(ingredientName))
                 .toList();
 
-        boolean isUserHit = false;
-
-        var events = boardUserEvents.stream()
-                .filter(event -> event.getBoard().getId().equals(board.getId()))
-                .findFirst();
-        if(events.isPresent()){
-            isUserHit = events.get().isUserHit();
-        }
-
-        return new RecipeSearchResponse(board.getId(),
-                board.getTitle(),
-                board.getUser().getUsername(),
-                board.getPathMainImage(),
-                board.getTotalStar(),
-                board.getHit(),
-                isUserHit,
-                board.getCount(),
-                board.getCreateTime(),
+        return new RecipeSearchResponse(row.id(),
+                row.title(),
+                row.userName(),
+                row.mainImage(),
+                row.star(),
+                row.hit(),
+                likedBoardIds.contains(row.id()),
+                row.click(),
+                row.createTime(),
                 ingredients.size() - without.size(),
                 without.size(),
                 without
         );
     }
 
-    public static List<RecipeSearchResponse> of(List<Board> board, List<String> pick, List<BoardUserEvent> boardUserEvents) {
-        return board.stream()
-                .map(v -> RecipeSearchResponse.of(v, pick,boardUserEvents))
-                .toList();
+    public static RecipeSearchResponse of(RecipeSearchRow row, RecipeIngredientMatch match, Set<Long> likedBoardIds) {
+        return new RecipeSearchResponse(row.id(),
+                row.title(),
+                row.userName(),
+                row.mainImage(),
+                row.star(),
+                row.hit(),
+                likedBoardIds.contains(row.id()),
+                row.click(),
+                row.createTime(),
+                match.have(),
+                match.without().size(),
+                match.without()
+        );
     }
 
-    public static List<RecipeSearchResponse> of(List<Board> board, List<String> pick,boolean ignore) {
-        return board.stream()
-                .map(v -> RecipeSearchResponse.of(v, pick,List.of()))
+    public static List<RecipeSearchResponse> of(List<RecipeSearchRow> rows, Set<String> pick, Set<Long> likedBoardIds) {
+        return rows.stream()
+                .map(row -> RecipeSearchResponse.of(row, pick, likedBoardIds))
                 .toList();
     }
 }
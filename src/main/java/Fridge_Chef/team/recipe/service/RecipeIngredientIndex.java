@@ -0,0 +1,264 @@
+package Fridge_Chef.team.recipe.service;
+
+import Fridge_Chef.team.common.transaction.AfterCommit;
+import Fridge_Chef.team.ingredient.domain.Ingredient;
+import Fridge_Chef.team.recipe.domain.RecipeIngredient;
+import Fridge_Chef.team.recipe.service.model.RecipeMatchQuery;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static Fridge_Chef.team.board.domain.QBoard.board;
+import static Fridge_Chef.team.ingredient.domain.QIngredient.ingredient;
+import static Fridge_Chef.team.recipe.domain.QRecipeIngredient.recipeIngredient;
+
+/**
+ * 재료 id -> 게시글 id 비트맵 역색인
+ * 레시피 검색시 필수/선택 재료 매칭을 DB join, group by, like 없이 비트 연산으로 처리한다.
+ * 게시글별 재료 id 배열(int[])도 함께 보관해서 매칭 점수 계산에 사용한다.
+ * 기동 완료 시점에 전체 적재, 이후 게시글 등록/수정/삭제 커밋 후 갱신
+ * 적재 쿼리 중에 들어온 갱신은 따로 모아두었다가 교체 후 다시 반영한다. (쿼리 결과가 더 오래된 값일 수 있음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecipeIngredientIndex {
+    private static final int[] EMPTY = new int[0];
+    private final JPAQueryFactory factory;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Integer, BitSet> boardsByIngredient = new HashMap<>();
+    private final Map<String, Integer> ingredientIdByName = new HashMap<>();
+    private final Map<Integer, String> ingredientNameById = new ConcurrentHashMap<>();
+    private final Map<Long, int[]> ingredientsByBoard = new ConcurrentHashMap<>();
+    /**
+     * 적재 중 갱신된 게시글의 마지막 재료, 삭제는 null (write lock 안에서만 접근)
+     */
+    private final Map<Long, Map<Integer, String>> pending = new LinkedHashMap<>();
+    private boolean rebuilding = false;
+    private volatile boolean ready = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        writeLocked(() -> {
+            rebuilding = true;
+            pending.clear();
+        });
+
+        Map<Long, Map<Integer, String>> recipes = loadOrCancel();
+
+        writeLocked(() -> {
+            boardsByIngredient.clear();
+            ingredientIdByName.clear();
+            ingredientsByBoard.clear();
+            recipes.forEach(this::add);
+            pending.forEach((boardId, ingredients) -> {
+                removeBoard(boardId);
+                if (ingredients != null) {
+                    add(boardId, ingredients);
+                }
+            });
+            pending.clear();
+            rebuilding = false;
+            ready = true;
+        });
+        log.info("재료 역색인 적재 완료 : 게시글 " + ingredientsByBoard.size() + ", 재료 " + boardsByIngredient.size()
+                + ", " + (System.currentTimeMillis() - start) + "ms");
+    }
+
+    private Map<Long, Map<Integer, String>> loadOrCancel() {
+        try {
+            return load();
+        } catch (RuntimeException e) {
+            writeLocked(() -> {
+                rebuilding = false;
+                pending.clear();
+            });
+            throw e;
+        }
+    }
+
+    /**
+     * 게시글별 재료 (재료 id -> 이름), 등록 순서
+     */
+    Map<Long, Map<Integer, String>> load() {
+        List<Tuple> rows = factory
+                .select(board.id, ingredient.id, ingredient.name)
+                .from(board)
+                .join(board.context.boardIngredients, recipeIngredient)
+                .join(recipeIngredient.ingredient, ingredient)
+                .orderBy(recipeIngredient.id.asc())
+                .fetch();
+
+        Map<Long, Map<Integer, String>> recipes = new HashMap<>();
+        for (Tuple row : rows) {
+            recipes.computeIfAbsent(row.get(board.id), key -> new LinkedHashMap<>())
+                    .put(Math.toIntExact(row.get(ingredient.id)), row.get(ingredient.name));
+        }
+        return recipes;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void put(Long boardId, List<RecipeIngredient> recipeIngredients) {
+        Map<Integer, String> ingredients = new LinkedHashMap<>();
+        for (RecipeIngredient recipe : recipeIngredients) {
+            Ingredient item = recipe.getIngredient();
+            if (item != null && item.getId() != null) {
+                ingredients.put(Math.toIntExact(item.getId()), item.getName());
+            }
+        }
+        AfterCommit.run(() -> writeLocked(() -> {
+            removeBoard(boardId);
+            add(boardId, ingredients);
+            if (rebuilding) {
+                pending.put(boardId, ingredients);
+            }
+        }));
+    }
+
+    public void remove(Long boardId) {
+        AfterCommit.run(() -> writeLocked(() -> {
+            removeBoard(boardId);
+            if (rebuilding) {
+                pending.put(boardId, null);
+            }
+        }));
+    }
+
+    /**
+     * 필수 재료는 재료명 부분 일치(기존 pathIngredient like 와 동일), 모두 포함해야 한다.
+     * 선택 재료가 있으면 필수 + 선택 재료명 중 하나 이상 정확히 일치해야 한다.
+     */
+    public BitSet search(List<String> must, List<String> ingredients) {
+        lock.readLock().lock();
+        try {
+            BitSet result = null;
+            for (String find : must) {
+                BitSet contains = new BitSet();
+                ingredientIdByName.forEach((name, ingredientId) -> {
+                    if (name.contains(find)) {
+                        contains.or(boardsByIngredient.get(ingredientId));
+                    }
+                });
+                result = and(result, contains);
+            }
+
+            if (!ingredients.isEmpty()) {
+                BitSet picked = new BitSet();
+                ingredientIds(merge(must, ingredients))
+                        .stream()
+                        .forEach(ingredientId -> picked.or(boardsByIngredient.get(ingredientId)));
+                result = and(result, picked);
+            }
+            return result == null ? new BitSet() : result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어를 재료 id 비트셋으로 변환, 매칭 점수 계산에 사용
+     */
+    public RecipeMatchQuery query(List<String> must, List<String> ingredients) {
+        lock.readLock().lock();
+        try {
+            BitSet mustIds = new BitSet();
+            for (String find : must) {
+                ingredientIdByName.forEach((name, ingredientId) -> {
+                    if (name.contains(find)) {
+                        mustIds.set(ingredientId);
+                    }
+                });
+            }
+            BitSet optionalIds = ingredientIds(ingredients);
+            BitSet pickIds = ingredientIds(merge(must, ingredients));
+            pickIds.or(mustIds);
+            return new RecipeMatchQuery(mustIds, optionalIds, pickIds, new HashSet<>(ingredients).size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int[] ingredientsOf(long boardId) {
+        return ingredientsByBoard.getOrDefault(boardId, EMPTY);
+    }
+
+    public String ingredientName(int ingredientId) {
+        return ingredientNameById.get(ingredientId);
+    }
+
+    private void writeLocked(Runnable task) {
+        lock.writeLock().lock();
+        try {
+            task.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private BitSet ingredientIds(List<String> names) {
+        BitSet ids = new BitSet();
+        for (String name : names) {
+            Integer ingredientId = ingredientIdByName.get(name);
+            if (ingredientId != null) {
+                ids.set(ingredientId);
+            }
+        }
+        return ids;
+    }
+
+    private void add(Long boardId, Map<Integer, String> ingredients) {
+        int bit = Math.toIntExact(boardId);
+        ingredients.forEach((ingredientId, name) -> {
+            boardsByIngredient.computeIfAbsent(ingredientId, key -> new BitSet()).set(bit);
+            ingredientIdByName.put(name, ingredientId);
+            ingredientNameById.put(ingredientId, name);
+        });
+        ingredientsByBoard.put(boardId, ingredients.keySet()
+                .stream()
+                .mapToInt(Integer::intValue)
+                .toArray());
+    }
+
+    private void removeBoard(Long boardId) {
+        int[] ingredientIds = ingredientsByBoard.remove(boardId);
+        if (ingredientIds == null) {
+            return;
+        }
+        for (int ingredientId : ingredientIds) {
+            BitSet boards = boardsByIngredient.get(ingredientId);
+            if (boards != null) {
+                boards.clear(Math.toIntExact(boardId));
+            }
+        }
+    }
+
+    private BitSet and(BitSet left, BitSet right) {
+        if (left == null) {
+            return right;
+        }
+        left.and(right);
+        return left;
+    }
+
+    private List<String> merge(List<String> left, List<String> right) {
+        List<String> list = new ArrayList<>(left);
+        list.addAll(right);
+        return list;
+    }
+}
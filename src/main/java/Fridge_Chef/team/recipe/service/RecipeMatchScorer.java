@@ -0,0 +1,108 @@
+package Fridge_Chef.team.recipe.service;
+
+import Fridge_Chef.team.recipe.service.model.RecipeIngredientMatch;
+import Fridge_Chef.team.recipe.service.model.RecipeMatch;
+import Fridge_Chef.team.recipe.service.model.RecipeMatchQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 레시피 재료 매칭 점수
+ * score = 필수 재료 일치 수 * mustWeight + 선택 재료 커버율 * coverageWeight - 없는 재료 수 * missingPenalty
+ * 후보 전체를 정렬하지 않고 limit 크기의 heap 으로 상위 K 개만 유지한다. O(후보 수 * 재료 수)
+ */
+@Component
+public class RecipeMatchScorer {
+    private static final Comparator<RecipeMatch> ORDER = Comparator.comparingDouble(RecipeMatch::score)
+            .thenComparingLong(RecipeMatch::boardId);
+
+    private final RecipeIngredientIndex recipeIngredientIndex;
+    private final double mustWeight;
+    private final double coverageWeight;
+    private final double missingPenalty;
+
+    public RecipeMatchScorer(RecipeIngredientIndex recipeIngredientIndex,
+                             @Value("${recipe.match.must-weight:2.0}") double mustWeight,
+                             @Value("${recipe.match.coverage-weight:10.0}") double coverageWeight,
+                             @Value("${recipe.match.missing-penalty:0.5}") double missingPenalty) {
+        this.recipeIngredientIndex = recipeIngredientIndex;
+        this.mustWeight = mustWeight;
+        this.coverageWeight = coverageWeight;
+        this.missingPenalty = missingPenalty;
+    }
+
+    /**
+     * 점수 내림차순, 같으면 최신 게시글 순으로 상위 limit 개
+     */
+    public List<RecipeMatch> rank(BitSet candidates, RecipeMatchQuery query, int limit) {
+        return rank(candidates, query, limit, null);
+    }
+
+    /**
+     * after 가 있으면 정렬상 after 다음 순서인 후보만 (키셋 페이지)
+     */
+    public List<RecipeMatch> rank(BitSet candidates, RecipeMatchQuery query, int limit, RecipeMatch after) {
+        if (limit <= 0) {
+            return new ArrayList<>();
+        }
+        PriorityQueue<RecipeMatch> heap = new PriorityQueue<>(limit + 1, ORDER);
+
+        for (int boardId = candidates.nextSetBit(0); boardId >= 0; boardId = candidates.nextSetBit(boardId + 1)) {
+            double score = score(boardId, query);
+            if (after != null && !isLower(score, boardId, after)) {
+                continue;
+            }
+            if (heap.size() < limit) {
+                heap.offer(new RecipeMatch(boardId, score));
+                continue;
+            }
+            if (!isLower(score, boardId, heap.peek())) {
+                heap.poll();
+                heap.offer(new RecipeMatch(boardId, score));
+            }
+        }
+
+        List<RecipeMatch> ranked = new ArrayList<>(heap);
+        ranked.sort(ORDER.reversed());
+        return ranked;
+    }
+
+    private boolean isLower(double score, long boardId, RecipeMatch other) {
+        return score < other.score() || (score == other.score() && boardId < other.boardId());
+    }
+
+    public double score(long boardId, RecipeMatchQuery query) {
+        int mustHits = 0;
+        int optionalHits = 0;
+        int missing = 0;
+        for (int ingredientId : recipeIngredientIndex.ingredientsOf(boardId)) {
+            if (query.must().get(ingredientId)) {
+                mustHits++;
+            }
+            if (query.optional().get(ingredientId)) {
+                optionalHits++;
+            }
+            if (!query.pick().get(ingredientId)) {
+                missing++;
+            }
+        }
+        double coverage = query.optionalCount() == 0 ? 0 : (double) optionalHits / query.optionalCount();
+        return mustWeight * mustHits + coverageWeight * coverage - missingPenalty * missing;
+    }
+
+    /**
+     * 보유 재료 수, 없는 재료 목록
+     */
+    public RecipeIngredientMatch compare(long boardId, RecipeMatchQuery query) {
+        int[] ingredientIds = recipeIngredientIndex.ingredientsOf(boardId);
+        List<String> without = new ArrayList<>();
+        for (int ingredientId : ingredientIds) {
+            if (!query.pick().get(ingredientId)) {
+                without.add(recipeIngredientIndex.ingredientName(ingredientId));
+            }
+        }
+        return new RecipeIngredientMatch(ingredientIds.length - without.size(), without);
+    }
+}
@@ -0,0 +1,41 @@
+package Fridge_Chef.team.recipe.service;
+
+import Fridge_Chef.team.common.cache.SingleFlightCache;
+import Fridge_Chef.team.common.transaction.AfterCommit;
+import Fridge_Chef.team.recipe.rest.response.RecipeSearchResponse;
+import Fridge_Chef.team.recipe.service.model.RecipeSearchKey;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 레시피 검색 결과 캐시, 유저와 무관한 결과만 저장 (myHit 는 조회 후 덧씌움)
+ * 같은 검색 조건 동시 miss 는 한 번만 검색, refresh 주기가 지나면 한 요청만 다시 검색하고 나머지는 이전 결과 응답
+ * 게시글 등록/수정/삭제 커밋 후 전체 무효화
+ * hit/miss 는 /actuator/metrics/cache.gets?tag=cache:recipeSearch
+ */
+@Component
+public class RecipeSearchCache {
+    private static final String NAME = "recipeSearch";
+    private final SingleFlightCache<RecipeSearchKey, Page<RecipeSearchResponse>> cache;
+
+    public RecipeSearchCache(MeterRegistry meterRegistry,
+                             @Value("${recipe.search-cache.maximum-size:10000}") long maximumSize,
+                             @Value("${recipe.search-cache.ttl-seconds:300}") long ttlSeconds,
+                             @Value("${recipe.search-cache.refresh-seconds:60}") long refreshSeconds) {
+        this.cache = new SingleFlightCache<>(meterRegistry, NAME, maximumSize,
+                Duration.ofSeconds(ttlSeconds), Duration.ofSeconds(refreshSeconds));
+    }
+
+    public Page<RecipeSearchResponse> get(RecipeSearchKey key, Supplier<Page<RecipeSearchResponse>> loader) {
+        return cache.get(key, loader);
+    }
+
+    public void invalidateAll() {
+        AfterCommit.run(cache::invalidateAll);
+    }
+}
@@ -1,32 +1,159 @@
 package Fridge_Chef.team.recipe.service;
 
+import Fridge_Chef.team.common.page.CursorPage;
+import Fridge_Chef.team.common.page.PageCursor;
 import Fridge_Chef.team.exception.ApiException;
 import Fridge_Chef.team.exception.ErrorCode;
 import Fridge_Chef.team.recipe.repository.RecipeDslRepository;
+import Fridge_Chef.team.recipe.repository.model.RecipeSearchRow;
+import Fridge_Chef.team.recipe.repository.model.RecipeSearchSortType;
 import Fridge_Chef.team.recipe.rest.request.RecipePageRequest;
 import Fridge_Chef.team.recipe.rest.response.RecipeSearchResponse;
+import Fridge_Chef.team.recipe.service.model.RecipeMatch;
+import Fridge_Chef.team.recipe.service.model.RecipeMatchQuery;
+import Fridge_Chef.team.recipe.service.model.RecipeSearchKey;
 import Fridge_Chef.team.user.domain.UserId;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.BitSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class RecipeService {
     private final RecipeDslRepository recipeDslRepository;
+    private final RecipeIngredientIndex recipeIngredientIndex;
+    private final RecipeMatchScorer recipeMatchScorer;
+    private final RecipeSearchCache recipeSearchCache;
 
     @Transactional(readOnly = true)
     public Page<RecipeSearchResponse> searchRecipe(RecipePageRequest request, List<String> must, List<String> ingredients, Optional<UserId> userId) {
-        if (must.size() + ingredients.size() == 0) {
-            throw new ApiException(ErrorCode.RECIPE_INGREDIENT_NULL);
+        validIngredients(must, ingredients);
+
+        RecipeSearchKey key = RecipeSearchKey.of(request, must, ingredients);
+        Page<RecipeSearchResponse> result = recipeSearchCache.get(key, () -> search(key));
+        if (userId.isEmpty() || result.isEmpty()) {
+            return result;
         }
 
+        List<Long> ids = result.getContent()
+                .stream()
+                .map(RecipeSearchResponse::getId)
+                .toList();
+        Set<Long> likedBoardIds = recipeDslRepository.findLikedBoardIds(ids, userId);
+        return result.map(response -> response.withMyHit(likedBoardIds.contains(response.getId())));
+    }
+
+    private Page<RecipeSearchResponse> search(RecipeSearchKey key) {
+        RecipePageRequest request = new RecipePageRequest(key.page(), key.size(), key.sortType());
+        PageRequest page = PageRequest.of(key.page(), key.size());
+        if (!recipeIngredientIndex.isReady()) {
+            return recipeDslRepository.findRecipesByIngredients(page, request, key.must(), key.ingredients(), Optional.empty());
+        }
+        return searchByIndex(page, request, key.must(), key.ingredients(), Optional.empty());
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<RecipeSearchResponse> scrollRecipe(RecipePageRequest request, List<String> must, List<String> ingredients, Optional<UserId> userId) {
+        validIngredients(must, ingredients);
+
         PageRequest page = PageRequest.of(request.page(), request.size());
-        return recipeDslRepository.findRecipesByIngredients(page, request, must, ingredients, userId);
+        if (!recipeIngredientIndex.isReady()) {
+            return recipeDslRepository.findRecipeSliceByIngredients(page, request, must, ingredients, userId);
+        }
+        Page<RecipeSearchResponse> result = searchByIndex(page, request, must, ingredients, userId);
+        return new SliceImpl<>(result.getContent(), page, result.hasNext());
+    }
+
+    private Page<RecipeSearchResponse> searchByIndex(PageRequest page, RecipePageRequest request, List<String> must, List<String> ingredients, Optional<UserId> userId) {
+        BitSet candidates = recipeIngredientIndex.search(must, ingredients);
+        RecipeMatchQuery query = recipeIngredientIndex.query(must, ingredients);
+        int total = candidates.cardinality();
+
+        List<RecipeSearchRow> rows;
+        if (request.sortType() == RecipeSearchSortType.MATCH) {
+            int limit = (int) Math.min(page.getOffset() + page.getPageSize(), total);
+            List<Long> pageIds = recipeMatchScorer.rank(candidates, query, limit)
+                    .stream()
+                    .skip(page.getOffset())
+                    .map(RecipeMatch::boardId)
+                    .toList();
+            rows = recipeDslRepository.findRowsByIds(pageIds);
+        } else {
+            List<Long> candidateIds = candidates.stream()
+                    .mapToObj(id -> (long) id)
+                    .toList();
+            rows = recipeDslRepository.findRowsByCandidateIds(page, request.sortType(), candidateIds);
+        }
+
+        return PageableExecutionUtils.getPage(toResponses(rows, query, userId), page, () -> total);
+    }
+
+    /**
+     * 키셋 페이지, MATCH 는 (점수, id) 이후 후보만 heap 에 넣고 나머지 정렬은 DB 에서 (정렬값, id) 이후만 조회
+     * 역색인 준비 전(기동 직후)에는 검색/스크롤과 같이 DB 조회로 대신한다.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<RecipeSearchResponse> cursorRecipe(RecipeSearchSortType sortType, int size, String cursor, List<String> must, List<String> ingredients, Optional<UserId> userId) {
+        if (size <= 0) {
+            throw new ApiException(ErrorCode.VALID_SIZE_MIN);
+        }
+        if (size > 50) {
+            throw new ApiException(ErrorCode.VALID_SIZE_50);
+        }
+        validIngredients(must, ingredients);
+
+        PageCursor after = cursor == null || cursor.isBlank() ? null : PageCursor.decode(cursor, sortType);
+        if (!recipeIngredientIndex.isReady()) {
+            return recipeDslRepository.findRecipeCursorByIngredients(sortType, size, after, must, ingredients, userId);
+        }
+        BitSet candidates = recipeIngredientIndex.search(must, ingredients);
+        RecipeMatchQuery query = recipeIngredientIndex.query(must, ingredients);
+
+        if (sortType == RecipeSearchSortType.MATCH) {
+            RecipeMatch last = after == null ? null : new RecipeMatch(after.id(), after.doubleKey());
+            List<RecipeMatch> matches = recipeMatchScorer.rank(candidates, query, size + 1, last);
+            return CursorPage.of(matches, size,
+                    match -> PageCursor.of(sortType, match.score(), match.boardId()),
+                    page -> toResponses(recipeDslRepository.findRowsByIds(page.stream().map(RecipeMatch::boardId).toList()), query, userId));
+        }
+
+        List<Long> candidateIds = candidates.stream()
+                .mapToObj(id -> (long) id)
+                .toList();
+        List<RecipeSearchRow> rows = recipeDslRepository.findRowsByCandidateIdsAfter(sortType, candidateIds, after, size + 1);
+        return CursorPage.of(rows, size,
+                row -> PageCursor.of(sortType, sortKey(sortType, row), row.id()),
+                page -> toResponses(page, query, userId));
+    }
+
+    private List<RecipeSearchResponse> toResponses(List<RecipeSearchRow> rows, RecipeMatchQuery query, Optional<UserId> userId) {
+        Set<Long> likedBoardIds = recipeDslRepository.findLikedBoardIds(rows.stream().map(RecipeSearchRow::id).toList(), userId);
+        return rows.stream()
+                .map(row -> RecipeSearchResponse.of(row, recipeMatchScorer.compare(row.id(), query), likedBoardIds))
+                .toList();
+    }
+
+    private Object sortKey(RecipeSearchSortType sortType, RecipeSearchRow row) {
+        return switch (sortType) {
+            case RATING -> row.star();
+            case LIKE -> row.hit();
+            default -> row.createTime();
+        };
+    }
+
+    private void validIngredients(List<String> must, List<String> ingredients) {
+        if (must.size() + ingredients.size() == 0) {
+            throw new ApiException(ErrorCode.RECIPE_INGREDIENT_NULL);
+        }
     }
 }
@@ -0,0 +1,6 @@
+package Fridge_Chef.team.recipe.service.model;
+
+import java.util.List;
+
+public record RecipeIngredientMatch(long have, List<String> without) {
+}
@@ -0,0 +1,4 @@
+package Fridge_Chef.team.recipe.service.model;
+
+public record RecipeMatch(long boardId, double score) {
+}
@@ -0,0 +1,14 @@
+package Fridge_Chef.team.recipe.service.model;
+
+import java.util.BitSet;
+
+/**
+ * 검색 재료를 재료 id 비트셋으로 변환한 값
+ *
+ * @param must          필수 재료명을 포함하는 재료 id
+ * @param optional      선택 재료 id
+ * @param pick          필수 재료명을 포함하는 재료 + 선택 재료명과 정확히 일치하는 재료 id (have / without 기준)
+ * @param optionalCount 요청한 선택 재료 수
+ */
+public record RecipeMatchQuery(BitSet must, BitSet optional, BitSet pick, int optionalCount) {
+}
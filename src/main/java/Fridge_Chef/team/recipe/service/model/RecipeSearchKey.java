@@ -0,0 +1,23 @@
+package Fridge_Chef.team.recipe.service.model;
+
+import Fridge_Chef.team.recipe.repository.model.RecipeSearchSortType;
+import Fridge_Chef.team.recipe.rest.request.RecipePageRequest;
+
+import java.util.List;
+
+/**
+ * 검색 결과 캐시 키, 재료 순서/중복과 상관없이 같은 키가 되도록 정렬 + 중복 제거
+ */
+public record RecipeSearchKey(List<String> must, List<String> ingredients, RecipeSearchSortType sortType, int page, int size) {
+
+    public static RecipeSearchKey of(RecipePageRequest request, List<String> must, List<String> ingredients) {
+        return new RecipeSearchKey(normalize(must), normalize(ingredients), request.sortType(), request.page(), request.size());
+    }
+
+    private static List<String> normalize(List<String> names) {
+        return names.stream()
+                .distinct()
+                .sorted()
+                .toList();
+    }
+}
@@ -1,27 +1,44 @@
 package Fridge_Chef.team.user.job;
 
 import Fridge_Chef.team.common.entity.OracleBoolean;
-import Fridge_Chef.team.user.domain.User;
+import Fridge_Chef.team.common.job.ChunkedJobRunner;
 import Fridge_Chef.team.user.repository.UserRepository;
+import com.querydsl.jpa.impl.JPAQueryFactory;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.util.UUID;
+
+import static Fridge_Chef.team.user.domain.QUser.user;
 
 @Component
 public class UserJob {
+    private static final int CHUNK_SIZE = 200;
     private final UserRepository userRepository;
+    private final JPAQueryFactory factory;
+    private final ChunkedJobRunner chunkedJobRunner;
 
-    public UserJob(UserRepository userRepository) {
+    public UserJob(UserRepository userRepository, JPAQueryFactory factory, ChunkedJobRunner chunkedJobRunner) {
         this.userRepository = userRepository;
+        this.factory = factory;
+        this.chunkedJobRunner = chunkedJobRunner;
     }
 
 
-    @Transactional
     @Scheduled(cron = "0 0 2 * * ?")
     void userDeletePolicy() {
-        List<User> users = userRepository.findByDeleteStatus(OracleBoolean.T);
-        userRepository.deleteAll(users);
+        chunkedJobRunner.<UUID>run("userDeletePolicy", CHUNK_SIZE,
+                (after, size) -> factory
+                        .select(user.userId.value)
+                        .from(user)
+                        .where(user.deleteStatus.eq(OracleBoolean.T),
+                                after == null ? null : user.userId.value.gt(after))
+                        .orderBy(user.userId.value.asc())
+                        .limit(size)
+                        .fetch(),
+                ids -> userRepository.deleteAll(factory
+                        .selectFrom(user)
+                        .where(user.userId.value.in(ids))
+                        .fetch()));
     }
 }
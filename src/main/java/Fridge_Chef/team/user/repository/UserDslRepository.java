@@ -0,0 +1,63 @@
+package Fridge_Chef.team.user.repository;
+
+import Fridge_Chef.team.user.domain.UserId;
+import Fridge_Chef.team.user.rest.response.UserMyPageCountResponse;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static Fridge_Chef.team.board.domain.QBoard.board;
+import static Fridge_Chef.team.board.domain.QBoardUserEvent.boardUserEvent;
+import static Fridge_Chef.team.comment.domain.QComment.comment;
+import static Fridge_Chef.team.user.domain.QUser.user;
+
+@Repository
+@RequiredArgsConstructor
+public class UserDslRepository {
+    private final JPAQueryFactory factory;
+
+    /**
+     * 마이페이지 숫자, 스칼라 서브쿼리로 한번에 조회
+     * 레시피 수, 후기 수, 내 레시피가 받은 좋아요 수, 찜한 레시피 수
+     * sum 결과 타입이 DB 마다 달라서 Number 로 받는다.
+     */
+    public Optional<UserMyPageCountResponse> findMyPageCounts(UserId userId) {
+        UUID id = userId.getValue();
+        Expression<? extends Number> recipeCount = JPAExpressions.select(board.id.count())
+                .from(board)
+                .where(board.user.userId.value.eq(id));
+        Expression<? extends Number> commentCount = JPAExpressions.select(comment.id.count())
+                .from(comment)
+                .where(comment.users.userId.value.eq(id));
+        Expression<? extends Number> likeCount = JPAExpressions.select(board.hit.sum().coalesce(0))
+                .from(board)
+                .where(board.user.userId.value.eq(id));
+        Expression<? extends Number> bookCount = JPAExpressions.select(boardUserEvent.id.count())
+                .from(boardUserEvent)
+                .where(boardUserEvent.user.userId.value.eq(id),
+                        boardUserEvent.hit.eq(1));
+
+        Tuple row = factory.select(recipeCount, commentCount, likeCount, bookCount)
+                .from(user)
+                .where(user.userId.value.eq(id))
+                .fetchOne();
+        if (row == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new UserMyPageCountResponse(
+                toInt(row.get(recipeCount)),
+                toInt(row.get(commentCount)),
+                toInt(row.get(likeCount)),
+                toInt(row.get(bookCount))));
+    }
+
+    private int toInt(Number value) {
+        return value == null ? 0 : value.intValue();
+    }
+}
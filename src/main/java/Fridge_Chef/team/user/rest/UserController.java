@@ -6,6 +6,7 @@ import Fridge_Chef.team.user.domain.User;
 import Fridge_Chef.team.user.rest.model.AuthenticatedUser;
 import Fridge_Chef.team.user.rest.request.UserAccountDeleteRequest;
 import Fridge_Chef.team.user.rest.request.UserProfileNameUpdateRequest;
+import Fridge_Chef.team.user.rest.response.UserMyPageCountResponse;
 import Fridge_Chef.team.user.rest.response.UserProfileMyPageResponse;
 import Fridge_Chef.team.user.rest.response.UserProfileResponse;
 import Fridge_Chef.team.user.service.UserService;
@@ -32,6 +33,11 @@ public class UserController {
         return userService.findByMyPage(authenticatedUser.userId());
     }
 
+    @GetMapping("/mypage/counts")
+    public UserMyPageCountResponse myPageCounts(@AuthenticationPrincipal AuthenticatedUser authenticatedUser) {
+        return userService.findMyPageCounts(authenticatedUser.userId());
+    }
+
     @PatchMapping("/name")
     public void profileNameUpdate(@AuthenticationPrincipal AuthenticatedUser authenticatedUser, @RequestBody UserProfileNameUpdateRequest request) {
         userService.updateUserProfileUsername(authenticatedUser.userId(), request);
@@ -0,0 +1,4 @@
+package Fridge_Chef.team.user.rest.response;
+
+public record UserMyPageCountResponse(int recipeCount, int commentCount, int likeCount, int bookCount) {
+}
@@ -0,0 +1,45 @@
+package Fridge_Chef.team.user.service;
+
+import Fridge_Chef.team.common.transaction.AfterCommit;
+import Fridge_Chef.team.user.domain.UserId;
+import Fridge_Chef.team.user.rest.response.UserMyPageCountResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 유저별 마이페이지 숫자 캐시
+ * 레시피, 후기 등록/삭제, 좋아요 커밋 후 해당 유저만 무효화, 다른 유저가 누른 좋아요 수는 ttl 만큼 늦게 반영
+ */
+@Component
+public class UserMyPageCountCache {
+    private static final String NAME = "userMyPageCount";
+    private final Cache<UUID, UserMyPageCountResponse> cache;
+
+    public UserMyPageCountCache(MeterRegistry meterRegistry,
+                                @Value("${user.mypage-count-cache.maximum-size:10000}") long maximumSize,
+                                @Value("${user.mypage-count-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, NAME);
+    }
+
+    public UserMyPageCountResponse get(UserId userId, Supplier<UserMyPageCountResponse> loader) {
+        return cache.get(userId.getValue(), key -> loader.get());
+    }
+
+    public void invalidate(UserId userId) {
+        UUID key = userId.getValue();
+        AfterCommit.run(() -> cache.invalidate(key));
+    }
+}
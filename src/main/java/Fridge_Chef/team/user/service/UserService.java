@@ -1,25 +1,22 @@
 package Fridge_Chef.team.user.service;
 
 
-import Fridge_Chef.team.board.domain.Board;
-import Fridge_Chef.team.board.repository.BoardRepository;
-import Fridge_Chef.team.comment.domain.Comment;
-import Fridge_Chef.team.comment.repository.CommentRepository;
 import Fridge_Chef.team.exception.ApiException;
 import Fridge_Chef.team.exception.ErrorCode;
 import Fridge_Chef.team.image.domain.Image;
 import Fridge_Chef.team.user.domain.User;
 import Fridge_Chef.team.user.domain.UserId;
+import Fridge_Chef.team.user.repository.UserDslRepository;
 import Fridge_Chef.team.user.repository.UserRepository;
 import Fridge_Chef.team.user.rest.model.AuthenticatedUser;
 import Fridge_Chef.team.user.rest.request.UserProfileNameUpdateRequest;
+import Fridge_Chef.team.user.rest.response.UserMyPageCountResponse;
 import Fridge_Chef.team.user.rest.response.UserProfileMyPageResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 import java.util.Optional;
 
 @Slf4j
@@ -27,8 +24,8 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class UserService {
     private final UserRepository userRepository;
-    private final CommentRepository commentRepository;
-    private final BoardRepository boardRepository;
+    private final UserDslRepository userDslRepository;
+    private final UserMyPageCountCache userMyPageCountCache;
 
     @Transactional(readOnly = true)
     public Optional<User> findByUserId(AuthenticatedUser userId) {
@@ -76,8 +73,13 @@ public class UserService {
 
     @Transactional(readOnly = true)
     public UserProfileMyPageResponse findByMyPage(UserId userId) {
-        List<Board> boards = boardRepository.findByUserId(userId).orElse(List.of());
-        List<Comment> comments = commentRepository.findByUsers(findByUserId(userId)).orElse(List.of());
-        return new UserProfileMyPageResponse(boards.size(),comments.size());
+        UserMyPageCountResponse counts = findMyPageCounts(userId);
+        return new UserProfileMyPageResponse(counts.recipeCount(), counts.commentCount());
+    }
+
+    @Transactional(readOnly = true)
+    public UserMyPageCountResponse findMyPageCounts(UserId userId) {
+        return userMyPageCountCache.get(userId, () -> userDslRepository.findMyPageCounts(userId)
+                .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND)));
     }
 }
\ No newline at end of file
@@ -0,0 +1,58 @@
+package Fridge_Chef.team.board.domain;
+
+import fixture.BoardFixture;
+import fixture.UserFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("게시글 주/월 조회수 합계 도메인 테스트")
+public class BoardViewSummaryTest {
+    private static final LocalDate WEDNESDAY = LocalDate.of(2024, 7, 31);
+    private BoardViewSummary summary;
+
+    @BeforeEach
+    void setup() {
+        Board board = BoardFixture.create(UserFixture.create("test@test.com"));
+        summary = new BoardViewSummary(board, WEDNESDAY);
+    }
+
+    @Test
+    @DisplayName("같은 주, 같은 달 누적")
+    void sameWeek() {
+        summary.add(WEDNESDAY, 3);
+        summary.add(WEDNESDAY.plusDays(1), 2);
+
+        assertThat(summary.thisWeek(WEDNESDAY)).isEqualTo(5);
+        assertThat(summary.lastWeek(WEDNESDAY)).isEqualTo(0);
+        assertThat(summary.thisMonth(WEDNESDAY)).isEqualTo(3 + 2);
+    }
+
+    @Test
+    @DisplayName("다음 주 첫 반영시 이번주 -> 지난주, 다음달 첫 반영시 이번달 -> 지난달")
+    void rollOver() {
+        summary.add(WEDNESDAY, 5);
+        LocalDate nextMonday = WEDNESDAY.plusDays(5);
+
+        summary.add(nextMonday, 1);
+
+        assertThat(summary.thisWeek(nextMonday)).isEqualTo(1);
+        assertThat(summary.lastWeek(nextMonday)).isEqualTo(5);
+        assertThat(summary.thisMonth(nextMonday)).isEqualTo(1);
+        assertThat(summary.lastMonth(nextMonday)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("반영이 없어도 조회 시점 기준으로 해석")
+    void readWithoutWrite() {
+        summary.add(WEDNESDAY, 5);
+
+        assertThat(summary.thisWeek(WEDNESDAY.plusWeeks(1))).isEqualTo(0);
+        assertThat(summary.lastWeek(WEDNESDAY.plusWeeks(1))).isEqualTo(5);
+        assertThat(summary.lastWeek(WEDNESDAY.plusWeeks(2))).isEqualTo(0);
+    }
+}
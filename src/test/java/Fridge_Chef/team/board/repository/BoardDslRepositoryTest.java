@@ -0,0 +1,49 @@
+package Fridge_Chef.team.board.repository;
+
+import Fridge_Chef.team.board.domain.Board;
+import Fridge_Chef.team.board.domain.Description;
+import Fridge_Chef.team.common.JpaTest;
+import Fridge_Chef.team.recipe.domain.RecipeIngredient;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BoardDslRepositoryTest extends JpaTest {
+    @Autowired
+    private EntityManager entityManager;
+    private BoardDslRepository boardDslRepository;
+
+    @BeforeEach
+    void setup() {
+        boardDslRepository = new BoardDslRepository(factory);
+    }
+
+    @Test
+    @DisplayName("게시글을 읽은 뒤 좋아요가 반영돼도 본문 수정 flush 가 좋아요 수를 덮어쓰지 않음")
+    void addHitWhileUpdatingContext() {
+        userBoardCommentMetaData();
+        entityManager.flush();
+        entityManager.clear();
+
+        Board board = boardRepository.findAll().get(0);
+        int hit = board.getHit();
+        boardDslRepository.addHit(board.getId(), 1);
+
+        List<RecipeIngredient> ingredients = new ArrayList<>(board.getContext().getBoardIngredients());
+        List<Description> descriptions = new ArrayList<>(board.getContext().getDescriptions());
+        board.updateContext(ingredients, descriptions, "30분", "어려움", "양식");
+        entityManager.flush();
+        entityManager.clear();
+
+        Board updated = boardRepository.findById(board.getId()).orElseThrow();
+        assertThat(updated.getHit()).isEqualTo(hit + 1);
+        assertThat(updated.getContext().getDishLevel()).isEqualTo("어려움");
+    }
+}
@@ -3,15 +3,21 @@ package Fridge_Chef.team.board.repository;
 
 import Fridge_Chef.team.board.repository.model.BookType;
 import Fridge_Chef.team.board.repository.model.SortType;
+import Fridge_Chef.team.board.rest.request.BookCommentRequest;
 import Fridge_Chef.team.board.rest.request.BookRecipeRequest;
 import Fridge_Chef.team.board.rest.response.BookBoardResponse;
+import Fridge_Chef.team.board.rest.response.BookCommentResponse;
 import Fridge_Chef.team.common.JpaTest;
+import Fridge_Chef.team.common.page.CursorPage;
 import Fridge_Chef.team.user.domain.User;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class BookDslRepositoryTest extends JpaTest {
@@ -34,4 +40,58 @@ public class BookDslRepositoryTest extends JpaTest {
         assertThat(result.getContent().size()).isNotEqualTo(0);
         System.out.println(result.getContent().size());
     }
+
+    @Test
+    void testFindByBoardLikeTotal() {
+        userBoardCommentMetaData();
+        BookRecipeRequest request = new BookRecipeRequest(0, 3, BookType.LIKE, SortType.LATEST);
+        User user = userRepository.findAll().get(0);
+        PageRequest pageable = PageRequest.of(request.getPage(), request.getSize());
+        long liked = boardUserEventRepository.findAll().stream()
+                .filter(event -> event.getUser().getUserId().equals(user.getUserId()) && event.isUserHit())
+                .map(event -> event.getBoard().getId())
+                .distinct()
+                .count();
+
+        Page<BookBoardResponse> result = bookDslRepository.findByBoard(pageable, user.getUserId(), request);
+
+        assertThat(result.getTotalElements()).isEqualTo(liked);
+        assertThat(result.getContent().size()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void testFindByBoardCursor() {
+        userBoardCommentMetaData();
+        User user = userRepository.findAll().get(0);
+        BookRecipeRequest request = new BookRecipeRequest(0, 2, BookType.MYRECIPE, SortType.RATING);
+        List<Long> all = bookDslRepository.findByBoard(PageRequest.of(0, 50), user.getUserId(), request)
+                .map(BookBoardResponse::getId)
+                .getContent();
+
+        List<Long> scrolled = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<BookBoardResponse> page = bookDslRepository.findByBoardCursor(request, cursor, user.getUserId());
+            page.content().forEach(response -> scrolled.add(response.getId()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertThat(scrolled).containsExactlyElementsOf(all);
+    }
+
+    @Test
+    void testFindByCommentTotal() {
+        userBoardCommentMetaData();
+        BookCommentRequest request = new BookCommentRequest(0, 5, SortType.LATEST);
+        User user = userRepository.findAll().get(0);
+        PageRequest pageable = PageRequest.of(request.getPage(), request.getSize());
+        long written = commentRepository.findAll().stream()
+                .filter(comment -> comment.getUsers().getUserId().equals(user.getUserId()))
+                .count();
+
+        Page<BookCommentResponse> result = bookDslRepository.findByComment(pageable, user.getUserId(), request);
+
+        assertThat(result.getTotalElements()).isEqualTo(written);
+        assertThat(result.getContent().size()).isEqualTo((int) Math.min(5, written));
+    }
 }
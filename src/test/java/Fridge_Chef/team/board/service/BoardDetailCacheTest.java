@@ -0,0 +1,83 @@
+package Fridge_Chef.team.board.service;
+
+import Fridge_Chef.team.board.service.response.BoardMyRecipeResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("레시피 상세 캐시 테스트")
+public class BoardDetailCacheTest {
+    private LocalSharedCache sharedCache;
+    private BoardDetailCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setup() {
+        sharedCache = new LocalSharedCache();
+        cache = new BoardDetailCache(new SimpleMeterRegistry(), Optional.of(sharedCache), 100, 60, 60);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("두번째 조회부터 로컬 캐시")
+    void localHit() {
+        cache.get(1L, this::load);
+        cache.get(1L, this::load);
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(sharedCache.store).containsKey(1L);
+    }
+
+    @Test
+    @DisplayName("로컬 캐시에 없으면 공유 캐시에서 조회")
+    void sharedHit() {
+        sharedCache.put(1L, new BoardMyRecipeResponse());
+
+        cache.get(1L, this::load);
+
+        assertThat(loads.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("무효화시 로컬, 공유 캐시 모두 삭제")
+    void evict() {
+        cache.get(1L, this::load);
+
+        cache.evict(1L);
+        cache.get(1L, this::load);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    private BoardMyRecipeResponse load() {
+        loads.incrementAndGet();
+        return new BoardMyRecipeResponse();
+    }
+
+    private static class LocalSharedCache implements BoardDetailSharedCache {
+        private final Map<Long, BoardMyRecipeResponse> store = new ConcurrentHashMap<>();
+
+        @Override
+        public Optional<BoardMyRecipeResponse> get(Long boardId) {
+            return Optional.ofNullable(store.get(boardId));
+        }
+
+        @Override
+        public void put(Long boardId, BoardMyRecipeResponse detail) {
+            store.put(boardId, detail);
+        }
+
+        @Override
+        public void evict(Long boardId) {
+            store.remove(boardId);
+        }
+    }
+}
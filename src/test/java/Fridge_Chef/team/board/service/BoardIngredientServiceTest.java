@@ -1,6 +1,7 @@
 package Fridge_Chef.team.board.service;
 
 import Fridge_Chef.team.board.domain.Board;
+import Fridge_Chef.team.board.domain.Description;
 import Fridge_Chef.team.board.repository.BoardRepository;
 import Fridge_Chef.team.board.rest.request.BoardByRecipeUpdateRequest;
 import Fridge_Chef.team.common.ServiceLayerTest;
@@ -20,6 +21,7 @@ import org.springframework.mock.web.MockMultipartFile;
 
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
 public class BoardIngredientServiceTest extends ServiceLayerTest {
@@ -48,6 +50,7 @@ public class BoardIngredientServiceTest extends ServiceLayerTest {
         boardIngredientService.uploadInstructionImages(user.getUserId(), request);
 
         verify(imageService, never()).imageUpload(user.getUserId(), file);
+        verify(imageService, times(1)).imageUploadAll(user.getUserId(), List.of());
     }
 
     @Test
@@ -61,10 +64,13 @@ public class BoardIngredientServiceTest extends ServiceLayerTest {
                         new BoardByRecipeUpdateRequest.Instructions(2L, "", file, true)
                 ));
 
-        when(imageService.imageUpload(any(UserId.class), any(MockMultipartFile.class))).thenReturn(new Image("url", ImageType.ORACLE_CLOUD));
+        when(imageService.imageUploadAll(any(UserId.class), anyList()))
+                .thenReturn(List.of(new Image("url1", ImageType.ORACLE_CLOUD), new Image("url2", ImageType.ORACLE_CLOUD)));
 
-        boardIngredientService.uploadInstructionImages(user.getUserId(), request);
+        List<Description> descriptions = boardIngredientService.uploadInstructionImages(user.getUserId(), request);
 
-        verify(imageService, times(request.getInstructions().size())).imageUpload(user.getUserId(), file);
+        verify(imageService, times(1)).imageUploadAll(user.getUserId(), List.of(file, file));
+        assertThat(descriptions).extracting(description -> description.getImage().getPath())
+                .containsExactly("url1", "url2");
     }
 }
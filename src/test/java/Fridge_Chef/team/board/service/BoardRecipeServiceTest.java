@@ -9,6 +9,9 @@ import Fridge_Chef.team.exception.ApiException;
 import Fridge_Chef.team.image.service.ImageService;
 import Fridge_Chef.team.ingredient.repository.IngredientRepository;
 import Fridge_Chef.team.ingredient.repository.RecipeIngredientRepository;
+import Fridge_Chef.team.recipe.service.RecipeIngredientIndex;
+import Fridge_Chef.team.recipe.service.RecipeSearchCache;
+import Fridge_Chef.team.user.service.UserMyPageCountCache;
 import Fridge_Chef.team.user.domain.User;
 import fixture.BoardFixture;
 import fixture.UserFixture;
@@ -41,6 +44,14 @@ public class BoardRecipeServiceTest extends ServiceLayerTest {
     protected IngredientRepository ingredientRepository;
     @Mock
     protected RecipeIngredientRepository recipeIngredientRepository;
+    @Mock
+    protected RecipeIngredientIndex recipeIngredientIndex;
+    @Mock
+    protected RecipeSearchCache recipeSearchCache;
+    @Mock
+    protected UserMyPageCountCache userMyPageCountCache;
+    @Mock
+    protected BoardDetailCache boardDetailCache;
     private User user;
     private Board board;
 
@@ -0,0 +1,67 @@
+package Fridge_Chef.team.board.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("게시글 조회수 메모리 누적 테스트")
+public class BoardViewCounterTest {
+    private final BoardViewCounter counter = new BoardViewCounter();
+
+    @Test
+    @DisplayName("drain 과 동시에 증가해도 조회수 유실 없음")
+    void drainWhileIncrement() throws Exception {
+        int threads = 4;
+        int perThread = 20_000;
+        AtomicLong total = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            Future<?>[] futures = new Future<?>[threads];
+            for (int i = 0; i < threads; i++) {
+                futures[i] = executor.submit(() -> {
+                    for (int j = 0; j < perThread; j++) {
+                        counter.increment(1L);
+                    }
+                });
+            }
+            boolean running = true;
+            while (running) {
+                total.addAndGet(counter.drain().getOrDefault(1L, 0L));
+                running = false;
+                for (Future<?> future : futures) {
+                    running |= !future.isDone();
+                }
+            }
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.SECONDS);
+            }
+            total.addAndGet(counter.drain().getOrDefault(1L, 0L));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(total.get()).isEqualTo((long) threads * perThread);
+        assertThat(counter.pending(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("반영 실패시 되돌린 조회수는 다음 drain 에 포함")
+    void restore() {
+        counter.increment(1L);
+        Map<Long, Long> drained = counter.drain();
+        counter.increment(1L);
+
+        counter.restore(drained);
+
+        assertThat(counter.drain()).containsEntry(1L, 2L);
+    }
+}
@@ -1,25 +1,32 @@
 package Fridge_Chef.team.board.service;
 
 import Fridge_Chef.team.board.domain.Board;
-import Fridge_Chef.team.board.domain.BoardHistory;
-import Fridge_Chef.team.board.repository.BoardHistoryRepository;
+import Fridge_Chef.team.board.repository.BoardDetailLoader;
+import Fridge_Chef.team.board.repository.BoardDslRepository;
 import Fridge_Chef.team.board.repository.BoardRepository;
+import Fridge_Chef.team.board.repository.model.BoardCounters;
 import Fridge_Chef.team.board.service.response.BoardMyRecipeResponse;
 import Fridge_Chef.team.common.ServiceLayerTest;
+import Fridge_Chef.team.exception.ApiException;
+import Fridge_Chef.team.exception.ErrorCode;
 import Fridge_Chef.team.user.domain.User;
 import fixture.BoardFixture;
 import fixture.UserFixture;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -29,7 +36,13 @@ public class BoardsServiceTest extends ServiceLayerTest {
     @Mock
     private BoardRepository boardRepository;
     @Mock
-    private BoardHistoryRepository boardHistoryRepository;
+    private BoardDetailLoader boardDetailLoader;
+    @Mock
+    private BoardDslRepository boardDslRepository;
+    @Spy
+    private BoardDetailCache boardDetailCache = new BoardDetailCache(new SimpleMeterRegistry(), Optional.empty(), 100, 60, 60);
+    @Mock
+    private BoardViewCounter boardViewCounter;
 
     private User user;
     private Board board;
@@ -41,34 +54,54 @@ public class BoardsServiceTest extends ServiceLayerTest {
     }
 
     @Test
-    @DisplayName("금일 새로운 클릭 카운트 새로 등록")
-    void findBoardIdNewHistoryCountSuccess() {
-        when(boardRepository.findById(any())).thenReturn(Optional.of(board));
-        when(boardHistoryRepository.save(any(BoardHistory.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+    @DisplayName("단일 조회는 조회수, 히스토리를 쓰지 않음")
+    void findBoardIdPureRead() {
+        when(boardDetailLoader.load(1L)).thenReturn(Optional.of(new BoardMyRecipeResponse()));
+        when(boardDslRepository.findCounters(1L)).thenReturn(Optional.of(new BoardCounters(0, 0, 0, "user", null)));
 
         BoardMyRecipeResponse response = boardService.findMyRecipeId(1L);
 
-        verify(boardRepository, times(1)).findById(1L);
-        verify(boardHistoryRepository, times(1)).save(any(BoardHistory.class));
+        verify(boardDetailLoader, times(1)).load(1L);
+        verify(boardViewCounter, never()).increment(any());
         assertNotNull(response);
-        assertEquals(1, board.getCount());
+        assertEquals(0, board.getCount());
+    }
+
+    @Test
+    @DisplayName("없는 게시글 단일 조회")
+    void findBoardIdNotFound() {
+        when(boardDetailLoader.load(1L)).thenReturn(Optional.empty());
+
+        ApiException exception = assertThrows(ApiException.class, () -> boardService.findMyRecipeId(1L));
+
+        assertEquals(ErrorCode.BOARD_NOT_FOUND, exception.getErrorCode());
     }
 
     @Test
-    @DisplayName("금일 기존 클릭 카운트 증가")
-    void findBoardIdHistoryCountUpSuccess() {
-        BoardHistory existingHistory = new BoardHistory(board, 5);
-        existingHistory.updateCreateDate(LocalDateTime.now());
-        board.addHistory(existingHistory);
+    @DisplayName("단일 조회 본문은 캐시, 별점/좋아요/후기 수/작성자/이슈 표시는 매번 덧씌움")
+    void findBoardIdCached() {
+        when(boardDetailLoader.load(1L)).thenReturn(Optional.of(new BoardMyRecipeResponse()));
+        when(boardDslRepository.findCounters(1L))
+                .thenReturn(Optional.of(new BoardCounters(4.0, 1, 1, "before", null)))
+                .thenReturn(Optional.of(new BoardCounters(4.5, 2, 2, "after", LocalDateTime.now())));
 
-        when(boardRepository.findById(any())).thenReturn(Optional.of(board));
+        boardService.findMyRecipeId(1L);
         BoardMyRecipeResponse response = boardService.findMyRecipeId(1L);
 
-        verify(boardRepository, times(1)).findById(1L);
-        verify(boardHistoryRepository, never()).save(existingHistory);
-        assertNotNull(response);
-        assertEquals(6, existingHistory.getCount());
-        assertEquals(1, board.getCount());
+        verify(boardDetailLoader, times(1)).load(1L);
+        assertEquals(4.5, response.getRating());
+        assertEquals(2, response.getHitTotal());
+        assertEquals(2, response.getStarTotal());
+        assertEquals("after", response.getUsername());
+        assertNotEquals("", response.getIssueInfo());
+    }
+
+    @Test
+    @DisplayName("조회수는 메모리 카운터에 누적")
+    void countingWriteBehind() {
+        boardService.counting(1L);
+
+        verify(boardViewCounter, times(1)).increment(1L);
+        verify(boardRepository, never()).findById(any());
     }
 }
@@ -1,10 +1,12 @@
 package Fridge_Chef.team.board.service;
 
 import Fridge_Chef.team.board.domain.Board;
+import Fridge_Chef.team.board.domain.BoardViewDaily;
 import Fridge_Chef.team.board.domain.BoardUserEvent;
 import Fridge_Chef.team.board.domain.Description;
 import Fridge_Chef.team.board.repository.BoardRepository;
 import Fridge_Chef.team.board.repository.BoardUserEventRepository;
+import Fridge_Chef.team.board.repository.BoardViewDailyRepository;
 import Fridge_Chef.team.board.repository.model.IssueType;
 import Fridge_Chef.team.board.repository.model.SortType;
 import Fridge_Chef.team.board.rest.request.BoardByRecipeRequest;
@@ -25,6 +27,8 @@ import Fridge_Chef.team.user.domain.User;
 import Fridge_Chef.team.user.domain.UserId;
 import Fridge_Chef.team.user.repository.UserRepository;
 import fixture.BoardFixture;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import fixture.CommentFixture;
 import fixture.UserFixture;
 import org.junit.jupiter.api.BeforeEach;
@@ -36,6 +40,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -67,6 +72,14 @@ public class BorderServiceTest extends BootTest {
     private BoardRecipeService boardRecipeService;
     @Autowired
     private BoardService boardService;
+    @Autowired
+    private BoardViewCounter boardViewCounter;
+    @Autowired
+    private BoardViewCountService boardViewCountService;
+    @Autowired
+    private BoardViewDailyRepository boardViewDailyRepository;
+    @PersistenceContext
+    private EntityManager entityManager;
     private User user;
     @Autowired
     private ImageRepository imageRepository;
@@ -213,9 +226,11 @@ public class BorderServiceTest extends BootTest {
             size = random.nextInt(5);
         }
 
-        boardService.updateUserHit(user.getUserId(), board.get(1).getId());
+        int total = boardService.updateUserHit(user.getUserId(), board.get(1).getId());
+        entityManager.clear();
         Board updatedBoard = boardRepository.findById(board.get(1).getId()).get();
         assertThat(updatedBoard.getHit()).isGreaterThan(0);
+        assertThat(updatedBoard.getHit()).isEqualTo(total);
     }
 
     @Test
@@ -226,12 +241,19 @@ public class BorderServiceTest extends BootTest {
         Board before = boardRepository.findByUserId(user.getUserId()).get().get(1);
         int beforeCount = before.getCount();
 
-        boardService.counting(boardRepository.findByUserId(user.getUserId()).get().get(1).getId());
+        boardService.counting(before.getId());
+        boardService.counting(before.getId());
+        assertThat(boardViewCounter.pending(before.getId())).isEqualTo(2);
 
-        Board after = boardRepository.findByUserId(user.getUserId()).get().get(1);
-        int afterCount = after.getCount();
+        boardViewCountService.apply(boardViewCounter.drain());
+        entityManager.clear();
 
-        assertThat(afterCount).isEqualTo(beforeCount + 1);
+        Board after = boardRepository.findById(before.getId()).get();
+        assertThat(after.getCount()).isEqualTo(beforeCount + 2);
+        assertThat(boardViewDailyRepository.findByBoardIdAndDay(before.getId(), LocalDate.now()))
+                .get()
+                .extracting(BoardViewDaily::getCount)
+                .isEqualTo(2L);
     }
 
 
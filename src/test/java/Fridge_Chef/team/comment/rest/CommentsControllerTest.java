@@ -2,6 +2,7 @@ package Fridge_Chef.team.comment.rest;
 
 import Fridge_Chef.team.board.repository.BoardRepository;
 import Fridge_Chef.team.comment.repository.CommentRepository;
+import Fridge_Chef.team.comment.rest.response.CommentLikeStateResponse;
 import Fridge_Chef.team.comment.rest.response.CommentResponse;
 import Fridge_Chef.team.comment.service.CommentService;
 import Fridge_Chef.team.common.RestDocControllerTests;
@@ -217,6 +218,31 @@ public class CommentsControllerTest extends RestDocControllerTests {
                         )));
     }
 
+    @Test
+    @DisplayName("좋아요 상태 일괄 조회")
+    void getLikeStates() throws Exception {
+        when(commentService.getLikeStates(anyLong(), anyList(), any(Optional.class)))
+                .thenReturn(List.of(
+                        new CommentLikeStateResponse(1L, 3, true),
+                        new CommentLikeStateResponse(2L, 0, false)));
+
+        ResultActions result = jwtGetPathWhen("/api/boards/{board_id}/comments/likes?ids=1,2", 1);
+
+        result.andExpect(status().isOk())
+                .andDo(document("후기 좋아요 상태 일괄 조회",
+                        pathParameters(
+                                parameterWithName("board_id").description("게시글 ID")
+                        ),
+                        queryParameters(
+                                parameterWithName("ids").description("댓글 ID 목록 [최대 50]")
+                        ),
+                        responseFields(
+                                fieldWithPath("[].id").description("댓글 ID"),
+                                fieldWithPath("[].like").description("좋아요 수"),
+                                fieldWithPath("[].myHit").description("내 좋아요 여부")
+                        )));
+    }
+
     private static Page<CommentResponse> getAllCommentsProvider() {
         return new PageImpl<>(List.of(
                 new CommentResponse(1L, "후기 내용", 4.5, 1, false,"User1", List.of("test.png"), 1L, LocalDateTime.now()),
@@ -1,9 +1,15 @@
 package Fridge_Chef.team.comment.service;
 
 import Fridge_Chef.team.board.domain.Board;
+import Fridge_Chef.team.board.repository.BoardDslRepository;
 import Fridge_Chef.team.board.repository.BoardRepository;
 import Fridge_Chef.team.comment.domain.Comment;
+import Fridge_Chef.team.comment.domain.CommentUserEvent;
+import Fridge_Chef.team.comment.repository.CommentAssociationLoader;
+import Fridge_Chef.team.comment.repository.CommentDslRepository;
 import Fridge_Chef.team.comment.repository.CommentRepository;
+import Fridge_Chef.team.comment.repository.CommentUserEventRepository;
+import Fridge_Chef.team.comment.repository.model.CommentAssociations;
 import Fridge_Chef.team.comment.rest.request.CommentCreateRequest;
 import Fridge_Chef.team.comment.rest.request.CommentUpdateRequest;
 import Fridge_Chef.team.comment.rest.response.CommentResponse;
@@ -15,6 +21,7 @@ import Fridge_Chef.team.user.domain.Role;
 import Fridge_Chef.team.user.domain.User;
 import Fridge_Chef.team.user.domain.UserId;
 import Fridge_Chef.team.user.repository.UserRepository;
+import Fridge_Chef.team.user.service.UserMyPageCountCache;
 import Fridge_Chef.team.user.rest.model.AuthenticatedUser;
 import fixture.BoardFixture;
 import fixture.ImageFixture;
@@ -26,11 +33,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -43,13 +53,25 @@ public class CommentServiceTest {
     @Mock
     private CommentRepository commentRepository;
     @Mock
+    private CommentUserEventRepository commentUserEventRepository;
+    @Mock
+    private CommentUserEventWriter commentUserEventWriter;
+    @Mock
+    private CommentDslRepository commentDslRepository;
+    @Mock
+    private CommentAssociationLoader commentAssociationLoader;
+    @Mock
     private BoardRepository boardRepository;
     @Mock
+    private BoardDslRepository boardDslRepository;
+    @Mock
     private UserRepository userRepository;
     @Mock
     private ImageService imageService;
     @Mock
     private ImageRepository imageRepository;
+    @Mock
+    private UserMyPageCountCache userMyPageCountCache;
     @InjectMocks
     private CommentService commentService;
 
@@ -74,6 +96,7 @@ public class CommentServiceTest {
         when(boardRepository.findById(anyLong())).thenReturn(Optional.of(board));
         when(userRepository.findByUserId_Value(any(UUID.class))).thenReturn(Optional.of(user));
         when(commentRepository.save(any(Comment.class))).thenReturn(comment);
+        when(commentDslRepository.findMyComment(anyLong(), any(UserId.class))).thenReturn(Optional.empty());
 
         Comment result = commentService.addComment(1L, UserFixture.create("tests@gmail.com").getUserId(), request);
 
@@ -81,6 +104,22 @@ public class CommentServiceTest {
         assertEquals("Test Comment", result.getComments());
         assertEquals(4.0, result.getStar());
         verify(commentRepository, times(1)).save(any(Comment.class));
+        verify(boardDslRepository, times(1)).addStar(1L, 4.0, 1);
+    }
+
+    @Test
+    @DisplayName("댓글 추가 - 이미 작성한 댓글이면 수정, 별점 차이만 반영")
+    void addComment_ExistingComment() {
+        CommentCreateRequest request = new CommentCreateRequest("Test Comment", null, 5.0);
+        when(boardRepository.findById(anyLong())).thenReturn(Optional.of(board));
+        when(userRepository.findByUserId_Value(any(UUID.class))).thenReturn(Optional.of(user));
+        when(commentDslRepository.findMyComment(1L, user.getUserId())).thenReturn(Optional.of(comment));
+        when(commentRepository.save(comment)).thenReturn(comment);
+
+        Comment result = commentService.addComment(1L, user.getUserId(), request);
+
+        assertEquals(5.0, result.getStar());
+        verify(boardDslRepository, times(1)).addStar(1L, 1.0, 0);
     }
 
     @Test
@@ -107,14 +146,18 @@ public class CommentServiceTest {
         commentService.deleteComment(board.getId(), comment.getId(), user.getUserId());
 
         verify(commentRepository, times(1)).delete(any(Comment.class));
+        verify(boardDslRepository, times(1)).addStar(board.getId(), -comment.getStar(), -1);
     }
 
     @Test
     @Transactional(readOnly = true)
     @DisplayName("게시판 별 댓글 조회 - 성공")
     void getCommentsByBoard_Success() {
-        when(boardRepository.findById(anyLong())).thenReturn(Optional.of(board));
-        when(commentRepository.findAllByBoard(any(Board.class))).thenReturn(List.of(comment));
+        when(boardRepository.existsById(anyLong())).thenReturn(true);
+        when(commentDslRepository.findMyComment(anyLong(), any(UserId.class))).thenReturn(Optional.empty());
+        when(commentDslRepository.findPageByBoard(1L, Optional.empty(), 0L, 50)).thenReturn(List.of(comment));
+        when(commentAssociationLoader.load(anyList(), any(Optional.class)))
+                .thenReturn(new CommentAssociations(Map.of(1L, "user"), Map.of(), Set.of()));
 
         Page<CommentResponse> comments = commentService.getCommentsByBoards(1L, 0, 50, Optional.of(new AuthenticatedUser(UserId.create(), Role.USER).userId()));
 
@@ -122,6 +165,73 @@ public class CommentServiceTest {
         assertEquals(1, comments.getTotalElements());
     }
 
+    @Test
+    @DisplayName("게시판 별 댓글 조회 - 내 댓글은 첫 페이지 맨 앞")
+    void getCommentsByBoard_MyCommentFirst() {
+        Comment other = new Comment(board, UserFixture.create("other@gmail.com"), List.of(), "Other Comment", 3.0);
+        other.updateId(2L);
+        when(boardRepository.existsById(anyLong())).thenReturn(true);
+        when(commentDslRepository.findMyComment(1L, user.getUserId())).thenReturn(Optional.of(comment));
+        when(commentDslRepository.findPageByBoard(1L, Optional.of(comment.getId()), 0L, 1)).thenReturn(List.of(other));
+        when(commentDslRepository.countByBoard(1L)).thenReturn(5L);
+        when(commentAssociationLoader.load(List.of(comment, other), Optional.of(user.getUserId())))
+                .thenReturn(new CommentAssociations(Map.of(1L, "user", 2L, "other"), Map.of(1L, List.of("test.png")), Set.of(2L)));
+
+        Page<CommentResponse> comments = commentService.getCommentsByBoards(1L, 0, 2, Optional.of(user.getUserId()));
+
+        assertEquals(List.of(1L, 2L), comments.getContent().stream().map(CommentResponse::getId).toList());
+        assertEquals(List.of("test.png"), comments.getContent().get(0).getImageLink());
+        assertTrue(comments.getContent().get(1).isMyHit());
+        assertEquals(5, comments.getTotalElements());
+    }
+
+    @Test
+    @DisplayName("댓글 첫 좋아요 - 이벤트 생성 후 좋아요 수 +1")
+    void updateHit_First() {
+        CommentUserEvent created = new CommentUserEvent(board, comment, user);
+        when(commentUserEventRepository.findByBoardIdAndCommentsIdAndUserUserId(anyLong(), anyLong(), any(UserId.class)))
+                .thenReturn(Optional.empty(), Optional.of(created));
+        when(commentDslRepository.findTotalHit(comment.getId())).thenReturn(1);
+
+        int totalHit = commentService.updateHit(board.getId(), comment.getId(), user.getUserId());
+
+        assertEquals(1, totalHit);
+        assertTrue(created.isHitOn());
+        verify(commentUserEventWriter, times(1)).create(board.getId(), comment.getId(), user.getUserId());
+        verify(commentDslRepository, times(1)).addHit(comment.getId(), 1);
+    }
+
+    @Test
+    @DisplayName("댓글 첫 좋아요 동시 요청 - unique 위반이면 먼저 만든 이벤트를 다시 조회해서 토글")
+    void updateHit_ConcurrentFirst() {
+        CommentUserEvent winner = new CommentUserEvent(board, comment, user);
+        when(commentUserEventRepository.findByBoardIdAndCommentsIdAndUserUserId(anyLong(), anyLong(), any(UserId.class)))
+                .thenReturn(Optional.empty(), Optional.of(winner));
+        doThrow(new DataIntegrityViolationException("uk_comment_user_event"))
+                .when(commentUserEventWriter).create(board.getId(), comment.getId(), user.getUserId());
+        when(commentDslRepository.findTotalHit(comment.getId())).thenReturn(2);
+
+        int totalHit = commentService.updateHit(board.getId(), comment.getId(), user.getUserId());
+
+        assertEquals(2, totalHit);
+        assertTrue(winner.isHitOn());
+        verify(commentDslRepository, times(1)).addHit(comment.getId(), 1);
+    }
+
+    @Test
+    @DisplayName("댓글 좋아요 취소 - 좋아요 수 -1")
+    void updateHit_Cancel() {
+        CommentUserEvent event = new CommentUserEvent(board, comment, user);
+        event.updateHit();
+        when(commentUserEventRepository.findByBoardIdAndCommentsIdAndUserUserId(anyLong(), anyLong(), any(UserId.class)))
+                .thenReturn(Optional.of(event));
+
+        commentService.updateHit(board.getId(), comment.getId(), user.getUserId());
+
+        assertFalse(event.isHitOn());
+        verify(commentDslRepository, times(1)).addHit(comment.getId(), -1);
+    }
+
     @Test
     @DisplayName("게시판을 찾을 수 없을 때 댓글 추가 - 실패")
     void addComment_BoardNotFound() {
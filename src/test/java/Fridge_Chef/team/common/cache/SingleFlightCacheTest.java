@@ -0,0 +1,99 @@
+package Fridge_Chef.team.common.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("single flight 캐시 테스트")
+public class SingleFlightCacheTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("같은 키 동시 miss 는 한 번만 로드")
+    void coalesce() throws Exception {
+        SingleFlightCache<Long, String> cache = new SingleFlightCache<>(meterRegistry, "test", 100,
+                Duration.ofMinutes(1), Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            Future<String> leader = executor.submit(() -> cache.get(1L, () -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return "recipe";
+            }));
+            loading.await(5, TimeUnit.SECONDS);
+
+            Future<String> follower = executor.submit(() -> cache.get(1L, () -> {
+                loads.incrementAndGet();
+                return "other";
+            }));
+            while (coalesced() < 1) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("recipe");
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("recipe");
+            assertThat(loads.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("refresh 주기가 지나면 다시 로드, 실패하면 이전 값 응답")
+    void refresh() {
+        SingleFlightCache<Long, String> cache = new SingleFlightCache<>(meterRegistry, "test", 100,
+                Duration.ofMinutes(1), Duration.ZERO);
+
+        cache.get(1L, () -> "v1");
+        String refreshed = cache.get(1L, () -> "v2");
+        String stale = cache.get(1L, () -> {
+            throw new IllegalStateException();
+        });
+
+        assertThat(refreshed).isEqualTo("v2");
+        assertThat(stale).isEqualTo("v2");
+    }
+
+    @Test
+    @DisplayName("무효화 후 다시 로드")
+    void invalidate() {
+        SingleFlightCache<Long, String> cache = new SingleFlightCache<>(meterRegistry, "test", 100,
+                Duration.ofMinutes(1), Duration.ofMinutes(1));
+
+        cache.get(1L, () -> "v1");
+        cache.invalidate(1L);
+
+        assertThat(cache.get(1L, () -> "v2")).isEqualTo("v2");
+    }
+
+    private double coalesced() {
+        return meterRegistry.get("cache.single.flight")
+                .tag("result", "coalesced")
+                .counter()
+                .count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
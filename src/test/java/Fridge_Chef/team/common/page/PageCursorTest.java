@@ -0,0 +1,54 @@
+package Fridge_Chef.team.common.page;
+
+import Fridge_Chef.team.board.repository.model.SortType;
+import Fridge_Chef.team.exception.ApiException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("키셋 페이지 커서 테스트")
+public class PageCursorTest {
+
+    @Test
+    @DisplayName("인코딩 후 디코딩시 같은 값")
+    void encodeDecode() {
+        LocalDateTime time = LocalDateTime.of(2024, 8, 1, 12, 30, 15, 123456000);
+        String token = PageCursor.of(SortType.LATEST, time, 42L).encode();
+
+        PageCursor cursor = PageCursor.decode(token, SortType.LATEST);
+
+        assertThat(cursor.timeKey()).isEqualTo(time);
+        assertThat(cursor.id()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("정렬 기준이 다른 커서 사용시 실패")
+    void otherSortType() {
+        String token = PageCursor.of(SortType.RATING, 4.5, 1L).encode();
+
+        assertThrows(ApiException.class, () -> PageCursor.decode(token, SortType.HIT));
+    }
+
+    @Test
+    @DisplayName("잘못된 토큰 실패")
+    void invalidToken() {
+        assertThrows(ApiException.class, () -> PageCursor.decode("not-a-cursor", SortType.LATEST));
+    }
+
+    @Test
+    @DisplayName("size + 1 건 조회시 다음 페이지 커서 생성")
+    void cursorPage() {
+        CursorPage<Integer> page = CursorPage.of(List.of(5, 4, 3), 2,
+                value -> PageCursor.of(SortType.HIT, value, value),
+                rows -> rows);
+
+        assertThat(page.content()).containsExactly(5, 4);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(PageCursor.decode(page.nextCursor(), SortType.HIT).intKey()).isEqualTo(4);
+    }
+}
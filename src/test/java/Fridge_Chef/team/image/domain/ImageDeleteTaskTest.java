@@ -0,0 +1,48 @@
+package Fridge_Chef.team.image.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("이미지 삭제 대기열 재시도 테스트")
+public class ImageDeleteTaskTest {
+    private final Duration base = Duration.ofSeconds(30);
+    private final Duration max = Duration.ofMinutes(10);
+
+    @Test
+    @DisplayName("실패할 때마다 base * 2^attempts 만큼 늦춤")
+    void backoff() {
+        ImageDeleteTask task = new ImageDeleteTask("a.png");
+
+        assertDelay(task, Duration.ofSeconds(30));
+        assertDelay(task, Duration.ofSeconds(60));
+        assertDelay(task, Duration.ofSeconds(120));
+        assertThat(task.getAttempts()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("늦추는 시간은 max 를 넘지 않음")
+    void cap() {
+        ImageDeleteTask task = new ImageDeleteTask("a.png");
+        for (int i = 0; i < 30; i++) {
+            task.retryLater(base, max);
+        }
+
+        assertDelay(task, max);
+        assertThat(task.getAttempts()).isEqualTo(31);
+    }
+
+    private void assertDelay(ImageDeleteTask task, Duration expected) {
+        LocalDateTime before = LocalDateTime.now();
+        task.retryLater(base, max);
+        LocalDateTime after = LocalDateTime.now();
+
+        assertThat(task.getNextAttemptTime())
+                .isAfterOrEqualTo(before.plus(expected))
+                .isBeforeOrEqualTo(after.plus(expected));
+    }
+}
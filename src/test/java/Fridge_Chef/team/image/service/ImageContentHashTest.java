@@ -0,0 +1,33 @@
+package Fridge_Chef.team.image.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("이미지 내용 해시 테스트")
+public class ImageContentHashTest {
+
+    @Test
+    @DisplayName("파일 이름이 달라도 내용이 같으면 같은 해시")
+    void sameContent() {
+        MockMultipartFile first = new MockMultipartFile("file", "a.png", "image/png", "image".getBytes());
+        MockMultipartFile second = new MockMultipartFile("file", "b.png", "image/png", "image".getBytes());
+        MockMultipartFile other = new MockMultipartFile("file", "a.png", "image/png", "other".getBytes());
+
+        assertThat(ImageContentHash.of(first))
+                .hasSize(64)
+                .isEqualTo(ImageContentHash.of(second))
+                .isNotEqualTo(ImageContentHash.of(other));
+    }
+
+    @Test
+    @DisplayName("오브젝트 이름은 해시 + 세대 접미사 + 확장자")
+    void objectName() {
+        assertThat(ImageContentHash.objectName("abc", "image/png")).matches("abc-[0-9a-f]{8}\\.png");
+        assertThat(ImageContentHash.objectName("abc", "image/jpeg")).matches("abc-[0-9a-f]{8}\\.jpg");
+        assertThat(ImageContentHash.objectName("abc", "image/png"))
+                .isNotEqualTo(ImageContentHash.objectName("abc", "image/png"));
+    }
+}
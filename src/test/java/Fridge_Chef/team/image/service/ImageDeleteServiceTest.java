@@ -0,0 +1,104 @@
+package Fridge_Chef.team.image.service;
+
+import Fridge_Chef.team.config.model.ImageConfigMeta;
+import Fridge_Chef.team.image.domain.ImageDeleteTask;
+import Fridge_Chef.team.image.repository.ImageDeleteTaskRepository;
+import com.oracle.bmc.objectstorage.ObjectStorage;
+import com.oracle.bmc.objectstorage.requests.DeleteObjectRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("이미지 삭제 대기열 처리 테스트")
+@ExtendWith(MockitoExtension.class)
+public class ImageDeleteServiceTest {
+    @Mock
+    private ImageDeleteTaskRepository imageDeleteTaskRepository;
+    @Mock
+    private ObjectStorage objectStorage;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    private ImageDeleteService imageDeleteService;
+    private List<ImageDeleteTask> tasks;
+
+    @BeforeEach
+    void setup() {
+        imageDeleteService = new ImageDeleteService(imageDeleteTaskRepository, objectStorage,
+                new ImageConfigMeta("namespace", "bucket", "url", "upload", "remove"), transactionManager, 30, 3600, 300);
+        tasks = LongStream.rangeClosed(1, 5)
+                .mapToObj(id -> {
+                    ImageDeleteTask task = new ImageDeleteTask("object-" + id);
+                    task.updateId(id);
+                    return task;
+                })
+                .toList();
+        when(imageDeleteTaskRepository.findByNextAttemptTimeLessThanEqualOrderByIdAsc(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(tasks);
+    }
+
+    @Test
+    @DisplayName("성공한 행은 삭제, 실패한 행은 재시도 시각을 늦춤")
+    void deleteAndRetry() {
+        when(objectStorage.deleteObject(any(DeleteObjectRequest.class))).thenAnswer(invocation -> {
+            DeleteObjectRequest request = invocation.getArgument(0);
+            if (request.getObjectName().equals("object-2")) {
+                throw new IllegalStateException("fail");
+            }
+            return null;
+        });
+        when(imageDeleteTaskRepository.findAllById(List.of(2L))).thenReturn(List.of(tasks.get(1)));
+
+        int deleted = imageDeleteService.drain(5);
+
+        assertThat(deleted).isEqualTo(4);
+        verify(objectStorage, times(5)).deleteObject(any(DeleteObjectRequest.class));
+        verify(imageDeleteTaskRepository).deleteAllByIdInBatch(List.of(1L, 3L, 4L, 5L));
+        assertThat(tasks.get(1).getAttempts()).isEqualTo(1);
+        assertThat(tasks.get(1).getNextAttemptTime()).isAfter(LocalDateTime.now().plusSeconds(20));
+    }
+
+    @Test
+    @DisplayName("연속 3번 실패하면 중단하고 남은 행은 바로 다음 주기로 돌려놓음")
+    void consecutiveFailures() {
+        when(objectStorage.deleteObject(any(DeleteObjectRequest.class))).thenThrow(new IllegalStateException("down"));
+        when(imageDeleteTaskRepository.findAllById(List.of(1L, 2L, 3L))).thenReturn(tasks.subList(0, 3));
+        when(imageDeleteTaskRepository.findAllById(List.of(4L, 5L))).thenReturn(tasks.subList(3, 5));
+
+        int deleted = imageDeleteService.drain(5);
+
+        assertThat(deleted).isZero();
+        verify(objectStorage, times(3)).deleteObject(any(DeleteObjectRequest.class));
+        verify(imageDeleteTaskRepository, never()).deleteAllByIdInBatch(any());
+        assertThat(tasks.subList(0, 3)).allSatisfy(task -> assertThat(task.getAttempts()).isEqualTo(1));
+        assertThat(tasks.subList(3, 5)).allSatisfy(task -> {
+            assertThat(task.getAttempts()).isZero();
+            assertThat(task.getNextAttemptTime()).isBeforeOrEqualTo(LocalDateTime.now());
+        });
+    }
+
+    @Test
+    @DisplayName("가져온 행은 스토리지 호출 전에 lease 만큼 미뤄둠")
+    void claim() {
+        when(objectStorage.deleteObject(any(DeleteObjectRequest.class))).thenAnswer(invocation -> {
+            assertThat(tasks).allSatisfy(task -> assertThat(task.getNextAttemptTime()).isAfter(LocalDateTime.now().plusSeconds(200)));
+            return null;
+        });
+
+        imageDeleteService.drain(5);
+
+        verify(transactionManager, times(2)).commit(any());
+    }
+}
@@ -0,0 +1,176 @@
+package Fridge_Chef.team.image.service;
+
+import Fridge_Chef.team.config.model.ImageConfigMeta;
+import Fridge_Chef.team.image.domain.Image;
+import Fridge_Chef.team.image.domain.ImageBlob;
+import Fridge_Chef.team.image.domain.ImageDeleteTask;
+import Fridge_Chef.team.image.domain.ImageType;
+import Fridge_Chef.team.image.repository.ImageBlobClaimRepository;
+import Fridge_Chef.team.image.repository.ImageBlobRepository;
+import Fridge_Chef.team.image.repository.ImageDeleteTaskRepository;
+import Fridge_Chef.team.image.repository.ImageRepository;
+import Fridge_Chef.team.user.domain.UserId;
+import com.oracle.bmc.objectstorage.ObjectStorage;
+import com.oracle.bmc.objectstorage.transfer.UploadManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@DisplayName("이미지 내용 중복 제거 테스트")
+@ExtendWith(MockitoExtension.class)
+public class ImageProdServiceTest {
+    @Mock
+    private UploadManager uploadManager;
+    @Mock
+    private ObjectStorage objectStorage;
+    @Mock
+    private ImageRepository imageRepository;
+    @Mock
+    private ParallelImageUploader parallelImageUploader;
+    @Mock
+    private ImageResizer imageResizer;
+    @Mock
+    private ImageDeleteTaskRepository imageDeleteTaskRepository;
+    @Mock
+    private ImageBlobRepository imageBlobRepository;
+    @Mock
+    private ImageBlobClaimRepository imageBlobClaimRepository;
+    @Captor
+    private ArgumentCaptor<List<Object>> uploads;
+    @Captor
+    private ArgumentCaptor<List<ImageDeleteTask>> tasks;
+    private ImageProdService imageProdService;
+
+    @BeforeEach
+    void setup() {
+        imageProdService = new ImageProdService(uploadManager, objectStorage, imageRepository,
+                new ImageConfigMeta("namespace", "bucket", "url", "upload", "remove"),
+                parallelImageUploader, imageResizer, imageDeleteTaskRepository, imageBlobRepository, imageBlobClaimRepository);
+    }
+
+    @Test
+    @DisplayName("요청 안의 중복은 한 번만 올리고 이미 있는 내용은 참조 수만 늘림")
+    void uploadDedupe() {
+        MultipartFile first = png("new");
+        MultipartFile same = png("new");
+        MultipartFile existing = png("existing");
+        String newHash = ImageContentHash.of(first);
+        String existingHash = ImageContentHash.of(existing);
+
+        Map<String, ImageBlob> blobs = new HashMap<>();
+        ImageBlob existingBlob = new ImageBlob(existingHash, existingHash + "-00000000.png");
+        existingBlob.increase();
+        blobs.put(existingHash, existingBlob);
+        when(imageBlobRepository.findByContentHash(anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(blobs.get(invocation.<String>getArgument(0))));
+        when(imageBlobClaimRepository.claim(anyString(), anyString())).thenAnswer(invocation -> {
+            blobs.put(invocation.getArgument(0), new ImageBlob(invocation.getArgument(0), invocation.getArgument(1)));
+            return true;
+        });
+        when(imageRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<Image> images = imageProdService.imageUploadAll(UserId.create(), List.of(first, same, existing));
+
+        verify(parallelImageUploader).uploadAll(uploads.capture(), any(), any());
+        assertThat(uploads.getValue()).hasSize(1);
+        verify(imageBlobClaimRepository).claim(eq(newHash), anyString());
+
+        ImageBlob newBlob = blobs.get(newHash);
+        assertThat(newBlob.getRefCount()).isEqualTo(2);
+        assertThat(existingBlob.getRefCount()).isEqualTo(2);
+        assertThat(images.get(0).getName())
+                .isEqualTo(images.get(1).getName())
+                .isEqualTo(newBlob.getObjectName());
+        assertThat(images.get(2).getName()).isEqualTo(existingBlob.getObjectName());
+    }
+
+    @Test
+    @DisplayName("다른 요청이 먼저 행을 만들었으면 업로드하지 않고 그 blob 을 참조")
+    void claimLost() {
+        MultipartFile file = png("race");
+        String hash = ImageContentHash.of(file);
+        ImageBlob winner = new ImageBlob(hash, hash + "-00000000.png");
+        winner.increase();
+        when(imageBlobRepository.findByContentHash(hash)).thenReturn(Optional.empty(), Optional.of(winner));
+        when(imageBlobClaimRepository.claim(eq(hash), anyString())).thenReturn(false);
+        when(imageRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<Image> images = imageProdService.imageUploadAll(UserId.create(), List.of(file));
+
+        verify(parallelImageUploader).uploadAll(uploads.capture(), any(), any());
+        assertThat(uploads.getValue()).isEmpty();
+        assertThat(winner.getRefCount()).isEqualTo(2);
+        assertThat(images.get(0).getName()).isEqualTo(winner.getObjectName());
+    }
+
+    @Test
+    @DisplayName("다른 Image 가 참조 중이면 오브젝트 삭제를 예약하지 않음")
+    void removeShared() {
+        ImageBlob blob = blob(2);
+        Image image = linkedImage(blob);
+        when(imageRepository.findById(1L)).thenReturn(Optional.of(image));
+        when(imageBlobRepository.findByContentHash(blob.getContentHash())).thenReturn(Optional.of(blob));
+
+        imageProdService.imageRemove(1L);
+
+        assertThat(blob.getRefCount()).isEqualTo(1);
+        verify(imageDeleteTaskRepository, never()).saveAll(anyList());
+        verify(imageBlobRepository, never()).delete(any(ImageBlob.class));
+        verify(imageRepository).delete(image);
+    }
+
+    @Test
+    @DisplayName("마지막 참조면 blob 행을 지우고 오브젝트 삭제를 예약")
+    void removeLast() {
+        ImageBlob blob = blob(1);
+        Image image = linkedImage(blob);
+        when(imageRepository.findById(1L)).thenReturn(Optional.of(image));
+        when(imageBlobRepository.findByContentHash(blob.getContentHash())).thenReturn(Optional.of(blob));
+
+        imageProdService.imageRemove(1L);
+
+        assertThat(blob.getRefCount()).isZero();
+        verify(imageBlobRepository).delete(blob);
+        verify(imageDeleteTaskRepository).saveAll(tasks.capture());
+        assertThat(tasks.getValue())
+                .extracting(ImageDeleteTask::getObjectName)
+                .containsExactly("abc-00000000.png");
+        verify(imageRepository).delete(image);
+    }
+
+    private MockMultipartFile png(String content) {
+        return new MockMultipartFile("file", content + ".png", "image/png", content.getBytes());
+    }
+
+    private ImageBlob blob(int refCount) {
+        ImageBlob blob = new ImageBlob("abc", "abc-00000000.png");
+        for (int i = 0; i < refCount; i++) {
+            blob.increase();
+        }
+        return blob;
+    }
+
+    private Image linkedImage(ImageBlob blob) {
+        Image image = new Image("url", "upload", "temp.png", ImageType.ORACLE_CLOUD, UserId.create());
+        image.linkBlob(blob);
+        return image;
+    }
+}
@@ -0,0 +1,134 @@
+package Fridge_Chef.team.image.service;
+
+import Fridge_Chef.team.exception.ApiException;
+import Fridge_Chef.team.exception.ErrorCode;
+import Fridge_Chef.team.image.domain.ImageVariant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("이미지 크기별 변형 테스트")
+public class ImageResizerTest {
+    private final ImageResizer imageResizer = new ImageResizer();
+
+    @Test
+    @DisplayName("긴 변 기준으로 full, card, thumbnail 생성")
+    void resize() throws IOException {
+        MockMultipartFile file = image(4000, 2000, "image/jpeg", "jpg");
+
+        Map<ImageVariant, byte[]> variants = imageResizer.resize(file);
+
+        assertThat(variants).containsOnlyKeys(ImageVariant.FULL, ImageVariant.CARD, ImageVariant.THUMBNAIL);
+        assertThat(read(variants.get(ImageVariant.FULL)).getWidth()).isEqualTo(1920);
+        assertThat(read(variants.get(ImageVariant.CARD)).getHeight()).isEqualTo(360);
+        assertThat(read(variants.get(ImageVariant.THUMBNAIL)).getWidth()).isEqualTo(320);
+    }
+
+    @Test
+    @DisplayName("원본보다 큰 변형은 만들지 않음")
+    void smallImage() throws IOException {
+        MockMultipartFile file = image(500, 500, "image/png", "png");
+
+        Map<ImageVariant, byte[]> variants = imageResizer.resize(file);
+
+        assertThat(variants).containsOnlyKeys(ImageVariant.THUMBNAIL);
+    }
+
+    @Test
+    @DisplayName("디코딩할 수 없는 파일은 원본만 사용")
+    void notImage() {
+        MockMultipartFile file = new MockMultipartFile("file", "file.png", "image/png", "not image".getBytes());
+
+        assertThat(imageResizer.resize(file)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Exif orientation 을 적용한 뒤 줄임")
+    void exifOrientation() throws IOException {
+        MockMultipartFile file = image(800, 400, "image/jpeg", "jpg");
+        MockMultipartFile rotated = new MockMultipartFile("file", "file.jpg", "image/jpeg", withOrientation(file.getBytes(), 6));
+
+        BufferedImage thumbnail = read(imageResizer.resize(rotated).get(ImageVariant.THUMBNAIL));
+
+        assertThat(thumbnail.getWidth()).isEqualTo(160);
+        assertThat(thumbnail.getHeight()).isEqualTo(320);
+    }
+
+    @Test
+    @DisplayName("해상도 상한을 넘으면 디코딩 전에 거부")
+    void pixelLimit() throws IOException {
+        ImageResizer limited = new ImageResizer(100 * 100);
+        MockMultipartFile file = image(200, 100, "image/png", "png");
+
+        assertThatThrownBy(() -> limited.resize(file))
+                .isInstanceOf(ApiException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.IMAGE_PIXEL_LIMIT);
+    }
+
+    @Test
+    @DisplayName("full 보다 큰 이미지는 서브샘플링 후에도 full 크기 유지")
+    void subsampling() throws IOException {
+        MockMultipartFile file = image(5000, 1000, "image/jpeg", "jpg");
+
+        Map<ImageVariant, byte[]> variants = imageResizer.resize(file);
+
+        assertThat(read(variants.get(ImageVariant.FULL)).getWidth()).isEqualTo(1920);
+    }
+
+    @Test
+    @DisplayName("업로드 파일 전체를 byte[] 로 읽지 않고 스트림으로 디코딩, Exif 도 스트림에서 읽음")
+    void streamOnly() throws IOException {
+        byte[] jpeg = withOrientation(image(800, 400, "image/jpeg", "jpg").getBytes(), 6);
+        MockMultipartFile file = new MockMultipartFile("file", "file.jpg", "image/jpeg", jpeg) {
+            @Override
+            public byte[] getBytes() {
+                throw new UnsupportedOperationException("getBytes");
+            }
+        };
+
+        BufferedImage thumbnail = read(imageResizer.resize(file).get(ImageVariant.THUMBNAIL));
+
+        assertThat(thumbnail.getWidth()).isEqualTo(160);
+        assertThat(thumbnail.getHeight()).isEqualTo(320);
+    }
+
+    /**
+     * SOI 바로 뒤에 orientation 태그 하나만 있는 APP1(Exif, big endian) 세그먼트를 넣는다.
+     */
+    private byte[] withOrientation(byte[] jpeg, int orientation) {
+        byte[] app1 = {
+                (byte) 0xFF, (byte) 0xE1, 0, 34,
+                'E', 'x', 'i', 'f', 0, 0,
+                'M', 'M', 0, 0x2A, 0, 0, 0, 8,
+                0, 1,
+                0x01, 0x12, 0, 3, 0, 0, 0, 1, 0, (byte) orientation, 0, 0,
+                0, 0, 0, 0
+        };
+        byte[] result = new byte[jpeg.length + app1.length];
+        System.arraycopy(jpeg, 0, result, 0, 2);
+        System.arraycopy(app1, 0, result, 2, app1.length);
+        System.arraycopy(jpeg, 2, result, 2 + app1.length, jpeg.length - 2);
+        return result;
+    }
+
+    private MockMultipartFile image(int width, int height, String contentType, String format) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), format, outputStream);
+        return new MockMultipartFile("file", "file." + format, contentType, outputStream.toByteArray());
+    }
+
+    private BufferedImage read(byte[] bytes) throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(bytes));
+    }
+}
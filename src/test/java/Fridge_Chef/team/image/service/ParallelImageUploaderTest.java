@@ -0,0 +1,73 @@
+package Fridge_Chef.team.image.service;
+
+import Fridge_Chef.team.exception.ApiException;
+import Fridge_Chef.team.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("이미지 병렬 업로드 테스트")
+public class ParallelImageUploaderTest {
+    private final ParallelImageUploader uploader = new ParallelImageUploader(4);
+
+    @AfterEach
+    void tearDown() {
+        uploader.shutdown();
+    }
+
+    @Test
+    @DisplayName("전부 성공하면 보상 삭제 없음")
+    void allUploaded() {
+        Queue<Integer> uploaded = new ConcurrentLinkedQueue<>();
+        Queue<Integer> compensated = new ConcurrentLinkedQueue<>();
+
+        uploader.uploadAll(List.of(1, 2, 3), uploaded::add, compensated::add);
+
+        assertThat(uploaded).containsExactlyInAnyOrder(1, 2, 3);
+        assertThat(compensated).isEmpty();
+    }
+
+    @Test
+    @DisplayName("일부 실패하면 성공한 것만 보상 삭제하고 첫 번째 예외를 던짐")
+    void compensateUploaded() {
+        Queue<Integer> compensated = new ConcurrentLinkedQueue<>();
+        ApiException first = new ApiException(ErrorCode.IMAGE_REMOTE_UPLOAD);
+
+        assertThatThrownBy(() -> uploader.uploadAll(List.of(1, 2, 3, 4, 5), item -> {
+            if (item == 3) {
+                throw first;
+            }
+            if (item == 5) {
+                throw new IllegalStateException("second");
+            }
+        }, compensated::add)).isSameAs(first);
+
+        assertThat(compensated).containsExactlyInAnyOrder(1, 2, 4);
+    }
+
+    @Test
+    @DisplayName("보상 삭제가 실패해도 나머지는 계속 삭제")
+    void compensateFailure() {
+        Queue<Integer> compensated = new ConcurrentLinkedQueue<>();
+
+        assertThatThrownBy(() -> uploader.uploadAll(List.of(1, 2, 3), item -> {
+            if (item == 2) {
+                throw new IllegalStateException("upload");
+            }
+        }, item -> {
+            if (item == 1) {
+                throw new IllegalStateException("compensate");
+            }
+            compensated.add(item);
+        })).hasMessage("upload");
+
+        assertThat(compensated).containsExactly(3);
+    }
+}
@@ -0,0 +1,96 @@
+package Fridge_Chef.team.recipe.service;
+
+import Fridge_Chef.team.ingredient.domain.Ingredient;
+import Fridge_Chef.team.recipe.domain.RecipeIngredient;
+import Fridge_Chef.team.recipe.service.model.RecipeMatchQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("레시피 재료 역색인 테스트")
+public class RecipeIngredientIndexTest {
+    private final Ingredient egg = new Ingredient(1L, "계란");
+    private final Ingredient quailEgg = new Ingredient(2L, "메추리계란");
+    private final Ingredient onion = new Ingredient(3L, "양파");
+    private final Ingredient pork = new Ingredient(4L, "돼지고기");
+    private RecipeIngredientIndex index;
+
+    @BeforeEach
+    void setup() {
+        index = new RecipeIngredientIndex(null);
+        index.put(1L, recipe(egg, onion));
+        index.put(2L, recipe(quailEgg));
+        index.put(3L, recipe(onion, pork));
+        index.put(4L, recipe(egg, onion, pork));
+    }
+
+    @Test
+    @DisplayName("필수 재료는 재료명 부분 일치로 모두 포함")
+    void mustContains() {
+        BitSet result = index.search(List.of("계란"), List.of());
+
+        assertThat(result.stream().toArray()).containsExactly(1, 2, 4);
+    }
+
+    @Test
+    @DisplayName("필수 + 선택 재료 중 하나 이상 일치")
+    void mustAndPick() {
+        BitSet result = index.search(List.of("양파"), List.of("돼지고기"));
+
+        assertThat(result.stream().toArray()).containsExactly(1, 3, 4);
+    }
+
+    @Test
+    @DisplayName("적재 쿼리 중에 커밋된 수정, 삭제는 교체 후 다시 반영")
+    void mutationDuringRebuild() {
+        RecipeIngredientIndex rebuilding = new RecipeIngredientIndex(null) {
+            @Override
+            Map<Long, Map<Integer, String>> load() {
+                Map<Long, Map<Integer, String>> snapshot = Map.of(
+                        1L, Map.of(1, "계란"),
+                        2L, Map.of(2, "메추리계란"));
+                put(1L, recipe(pork));
+                remove(2L);
+                return snapshot;
+            }
+        };
+
+        rebuilding.rebuild();
+
+        assertThat(rebuilding.isReady()).isTrue();
+        assertThat(rebuilding.search(List.of("돼지고기"), List.of()).stream().toArray()).containsExactly(1);
+        assertThat(rebuilding.search(List.of("계란"), List.of()).stream().toArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("수정, 삭제시 색인 갱신")
+    void updateAndRemove() {
+        index.put(1L, recipe(pork));
+        index.remove(4L);
+
+        BitSet result = index.search(List.of("돼지고기"), List.of());
+
+        assertThat(result.stream().toArray()).containsExactly(1, 3);
+    }
+
+    @Test
+    @DisplayName("부분 일치한 필수 재료도 보유 재료로 계산")
+    void mustPartialIsPicked() {
+        RecipeMatchQuery query = index.query(List.of("계란"), List.of("양파"));
+
+        assertThat(query.pick().stream().toArray()).containsExactly(1, 2, 3);
+    }
+
+    private List<RecipeIngredient> recipe(Ingredient... ingredients) {
+        return Arrays.stream(ingredients)
+                .map(ingredient -> RecipeIngredient.ofMyRecipe(ingredient, "1개"))
+                .toList();
+    }
+}
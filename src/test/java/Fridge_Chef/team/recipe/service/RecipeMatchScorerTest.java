@@ -0,0 +1,81 @@
+package Fridge_Chef.team.recipe.service;
+
+import Fridge_Chef.team.ingredient.domain.Ingredient;
+import Fridge_Chef.team.recipe.domain.RecipeIngredient;
+import Fridge_Chef.team.recipe.service.model.RecipeIngredientMatch;
+import Fridge_Chef.team.recipe.service.model.RecipeMatch;
+import Fridge_Chef.team.recipe.service.model.RecipeMatchQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("레시피 재료 매칭 점수 테스트")
+public class RecipeMatchScorerTest {
+    private final Ingredient egg = new Ingredient(1L, "계란");
+    private final Ingredient onion = new Ingredient(2L, "양파");
+    private final Ingredient pork = new Ingredient(3L, "돼지고기");
+    private final Ingredient salt = new Ingredient(4L, "소금");
+    private RecipeIngredientIndex index;
+    private RecipeMatchScorer scorer;
+
+    @BeforeEach
+    void setup() {
+        index = new RecipeIngredientIndex(null);
+        scorer = new RecipeMatchScorer(index, 2.0, 10.0, 0.5);
+        index.put(1L, recipe(egg, onion));
+        index.put(2L, recipe(egg, onion, pork, salt));
+        index.put(3L, recipe(onion, pork));
+        index.put(4L, recipe(egg, onion, pork));
+    }
+
+    @Test
+    @DisplayName("점수 내림차순 상위 K 개만 반환")
+    void rankTopK() {
+        List<String> pick = List.of("계란", "양파", "돼지고기");
+        RecipeMatchQuery query = index.query(List.of(), pick);
+        BitSet candidates = index.search(List.of(), pick);
+
+        List<Long> ranked = scorer.rank(candidates, query, 2)
+                .stream()
+                .map(RecipeMatch::boardId)
+                .toList();
+
+        assertThat(ranked).containsExactly(4L, 2L);
+    }
+
+    @Test
+    @DisplayName("점수가 같으면 최신 게시글 우선")
+    void rankSameScore() {
+        RecipeMatchQuery query = index.query(List.of(), List.of("양파"));
+        BitSet candidates = new BitSet();
+        candidates.set(1);
+        candidates.set(3);
+
+        assertThat(scorer.rank(candidates, query, 10))
+                .extracting(RecipeMatch::boardId)
+                .containsExactly(3L, 1L);
+    }
+
+    @Test
+    @DisplayName("보유 재료 수, 없는 재료 목록")
+    void compare() {
+        RecipeMatchQuery query = index.query(List.of("계란"), List.of("양파"));
+
+        RecipeIngredientMatch match = scorer.compare(2L, query);
+
+        assertThat(match.have()).isEqualTo(2);
+        assertThat(match.without()).containsExactly("돼지고기", "소금");
+    }
+
+    private List<RecipeIngredient> recipe(Ingredient... ingredients) {
+        return Arrays.stream(ingredients)
+                .map(ingredient -> RecipeIngredient.ofMyRecipe(ingredient, "1개"))
+                .toList();
+    }
+}
@@ -12,6 +12,7 @@ import Fridge_Chef.team.user.repository.UserRepository;
 import Fridge_Chef.team.user.rest.request.UserAccountDeleteRequest;
 import Fridge_Chef.team.user.rest.request.UserProfileImageUpdateRequest;
 import Fridge_Chef.team.user.rest.request.UserProfileNameUpdateRequest;
+import Fridge_Chef.team.user.rest.response.UserMyPageCountResponse;
 import Fridge_Chef.team.user.service.UserService;
 import fixture.UserFixture;
 import org.junit.jupiter.api.BeforeEach;
@@ -148,6 +149,26 @@ public class UserControllerTest extends RestDocControllerTests {
                 ));
     }
 
+    @Test
+    @WithMockCustomUser
+    void my_page_counts() throws Exception {
+        when(userService.findMyPageCounts(any(UserId.class)))
+                .thenReturn(new UserMyPageCountResponse(3, 5, 12, 7));
+
+        ResultActions actions = jwtGetWhen("/api/user/mypage/counts");
+
+        actions.andExpect(status().isOk())
+                .andDo(document("마이페이지 개수 조회",
+                        jwtTokenRequest(),
+                        responseFields(
+                                fieldWithPath("recipeCount").description("내 레시피 수"),
+                                fieldWithPath("commentCount").description("내 후기 수"),
+                                fieldWithPath("likeCount").description("내 레시피가 받은 좋아요 수"),
+                                fieldWithPath("bookCount").description("찜한 레시피 수")
+                        )
+                ));
+    }
+
     @Test
     @WithMockCustomUser
     void profile_name_update_success() throws Exception {